@@ -0,0 +1,214 @@
+package com.interview.catalog;
+
+import com.interview.model.Product;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Collection;
+import java.util.function.Predicate;
+
+/**
+ * Immutable price-ordered view of products. Prices are held as sorted primitive cents,
+ * with the products and their active flags in parallel arrays, so a range scan compares
+ * {@code long}s and reads a {@code boolean[]} without touching {@link BigDecimal} or
+ * allocating.
+ * <p>
+ * The entries never change. Entries replaced or removed after the index was built are
+ * marked stale with the store version that did so, so a reader holding an older version
+ * still sees them.
+ */
+final class PriceIndex {
+    
+    static final PriceIndex EMPTY = new PriceIndex(new long[0], new Product[0], new boolean[0]);
+    
+    /**
+     * Highest price that fits in {@code long} cents.
+     */
+    static final BigDecimal MAX_PRICE = BigDecimal.valueOf(Long.MAX_VALUE, 2);
+    
+    private final long[] cents;
+    private final Product[] products;
+    private final boolean[] active;
+    
+    // Created by the store under its lock on the first write after the index is published
+    private StaleMarks stale;
+    
+    private PriceIndex(long[] cents, Product[] products, boolean[] active) {
+        this.cents = cents;
+        this.products = products;
+        this.active = active;
+    }
+    
+    /**
+     * Prices are indexed and compared at cent precision, rounding half up.
+     *
+     * @throws ArithmeticException if the price is beyond {@link #MAX_PRICE} in either direction
+     */
+    static long toCents(BigDecimal price) {
+        return price.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+    
+    /**
+     * Like {@link #toCents}, but prices beyond the {@code long} range become
+     * {@link Long#MIN_VALUE} or {@link Long#MAX_VALUE}, so any query bound works.
+     */
+    static long toCentsClamped(BigDecimal price) {
+        // Compared before rounding, so a huge exponent never expands into a huge BigInteger
+        if (price.compareTo(MAX_PRICE) > 0) {
+            return Long.MAX_VALUE;
+        }
+        if (price.compareTo(MAX_PRICE.negate()) < 0) {
+            return Long.MIN_VALUE;
+        }
+        return toCents(price);
+    }
+    
+    static PriceIndex of(Collection<Product> source) {
+        int size = source.size();
+        long[] cents = new long[size];
+        Product[] products = new Product[size];
+        int i = 0;
+        for (Product product : source) {
+            cents[i] = toCents(product.getPrice());
+            products[i++] = product;
+        }
+        sort(cents, products);
+        return new PriceIndex(cents, products, activeFlags(products));
+    }
+    
+    /**
+     * Merges two indexes into one, dropping entries for which {@code live} is false.
+     */
+    static PriceIndex merge(PriceIndex base, PriceIndex delta, Predicate<Product> live) {
+        int capacity = base.size() + delta.size();
+        long[] cents = new long[capacity];
+        Product[] products = new Product[capacity];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < base.size() || j < delta.size()) {
+            boolean fromBase = j == delta.size() || (i < base.size() && base.cents[i] <= delta.cents[j]);
+            PriceIndex from = fromBase ? base : delta;
+            int index = fromBase ? i++ : j++;
+            if (live.test(from.products[index])) {
+                cents[size] = from.cents[index];
+                products[size++] = from.products[index];
+            }
+        }
+        if (size < capacity) {
+            long[] trimmedCents = new long[size];
+            Product[] trimmedProducts = new Product[size];
+            System.arraycopy(cents, 0, trimmedCents, 0, size);
+            System.arraycopy(products, 0, trimmedProducts, 0, size);
+            cents = trimmedCents;
+            products = trimmedProducts;
+        }
+        return new PriceIndex(cents, products, activeFlags(products));
+    }
+    
+    int size() {
+        return cents.length;
+    }
+    
+    /**
+     * Position of the first entry priced at or above {@code minCents}.
+     */
+    int lowerBound(long minCents) {
+        int low = 0;
+        int high = cents.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cents[mid] < minCents) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+    
+    long centsAt(int index) {
+        return cents[index];
+    }
+    
+    boolean activeAt(int index) {
+        return active[index];
+    }
+    
+    Product productAt(int index) {
+        return products[index];
+    }
+    
+    /**
+     * Whether the entry was replaced or removed at or before store {@code version}.
+     */
+    boolean isStale(int index, long version) {
+        StaleMarks marks = stale;
+        return marks != null && marks.isStale(index, version);
+    }
+    
+    /**
+     * Marks the entry holding exactly {@code product}, if any, stale from store
+     * {@code version} on. Found by binary search on its price.
+     */
+    void markStale(Product product, long version) {
+        long productCents = toCents(product.getPrice());
+        for (int index = lowerBound(productCents); index < cents.length && cents[index] == productCents; index++) {
+            if (products[index] == product) {
+                if (stale == null) {
+                    stale = new StaleMarks(cents.length);
+                }
+                stale.mark(index, version);
+                return;
+            }
+        }
+    }
+    
+    private static boolean[] activeFlags(Product[] products) {
+        boolean[] active = new boolean[products.length];
+        for (int i = 0; i < products.length; i++) {
+            active[i] = Boolean.TRUE.equals(products[i].getActive());
+        }
+        return active;
+    }
+    
+    /**
+     * Stable bottom-up merge sort of both arrays by cents.
+     */
+    private static void sort(long[] cents, Product[] products) {
+        int size = cents.length;
+        long[] centsBuffer = new long[size];
+        Product[] productsBuffer = new Product[size];
+        long[] fromCents = cents;
+        Product[] fromProducts = products;
+        long[] toCents = centsBuffer;
+        Product[] toProducts = productsBuffer;
+        for (int width = 1; width < size; width <<= 1) {
+            for (int start = 0; start < size; start += width << 1) {
+                int middle = Math.min(start + width, size);
+                int end = Math.min(start + (width << 1), size);
+                int left = start;
+                int right = middle;
+                for (int out = start; out < end; out++) {
+                    if (left < middle && (right == end || fromCents[left] <= fromCents[right])) {
+                        toCents[out] = fromCents[left];
+                        toProducts[out] = fromProducts[left++];
+                    } else {
+                        toCents[out] = fromCents[right];
+                        toProducts[out] = fromProducts[right++];
+                    }
+                }
+            }
+            long[] swapCents = fromCents;
+            fromCents = toCents;
+            toCents = swapCents;
+            Product[] swapProducts = fromProducts;
+            fromProducts = toProducts;
+            toProducts = swapProducts;
+        }
+        if (fromCents != cents) {
+            System.arraycopy(fromCents, 0, cents, 0, size);
+            System.arraycopy(fromProducts, 0, products, 0, size);
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.interview.catalog;
+
+import com.interview.model.Product;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log of the writes made since the last snapshot. Each write is one frame
+ * (payload length, CRC-32, payload) holding either the products of one {@code putAll} or
+ * one removed id, so replay applies whole writes. A torn or corrupt frame at the end,
+ * left by a crash mid-append, is dropped on replay along with anything after it.
+ * Ids and names are written as length-prefixed UTF-8 (length -1 for a null name), so
+ * they are not bound by the 64 KB limit of {@link DataOutputStream#writeUTF}.
+ * <p>
+ * Not thread-safe: the store appends under its lock.
+ */
+final class ProductChangeLog implements Closeable {
+    
+    private static final Logger log = LoggerFactory.getLogger(ProductChangeLog.class);
+    
+    private static final byte PUT = 1;
+    private static final byte REMOVE = 2;
+    private static final int FRAME_HEADER_BYTES = 8;
+    
+    private final Path file;
+    private final FileChannel channel;
+    private final boolean fsync;
+    private final CRC32 crc = new CRC32();
+    private final PayloadStream payload = new PayloadStream();
+    private long frames;
+    
+    ProductChangeLog(Path file, boolean fsync) throws IOException {
+        this.file = file;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        this.fsync = fsync;
+    }
+    
+    /**
+     * Number of frames replayed or appended since the log was last truncated.
+     */
+    long frames() {
+        return frames;
+    }
+    
+    /**
+     * Applies every complete frame in order, truncates anything after the last one and
+     * leaves the log positioned for appending.
+     */
+    void replay(Consumer<List<Product>> puts, Consumer<String> removes) throws IOException {
+        long valid = 0;
+        InputStream source = new BufferedInputStream(Channels.newInputStream(channel.position(0)), 1 << 16);
+        DataInputStream in = new DataInputStream(source);
+        while (true) {
+            byte[] payload;
+            try {
+                int length = in.readInt();
+                int checksum = in.readInt();
+                if (length < 0 || length > channel.size() - valid - FRAME_HEADER_BYTES) {
+                    break;
+                }
+                payload = in.readNBytes(length);
+                crc.reset();
+                crc.update(payload);
+                if (payload.length != length || (int) crc.getValue() != checksum) {
+                    break;
+                }
+            } catch (EOFException e) {
+                break;
+            }
+            apply(payload, puts, removes);
+            valid += FRAME_HEADER_BYTES + payload.length;
+            frames++;
+        }
+        if (valid < channel.size()) {
+            log.warn("Dropping {} bytes after the last complete frame of {}", channel.size() - valid, file);
+            channel.truncate(valid);
+        }
+        channel.position(valid);
+    }
+    
+    void appendPuts(Collection<Product> products) throws IOException {
+        append(out -> {
+            for (Product product : products) {
+                BigDecimal price = product.getPrice();
+                out.writeByte(PUT);
+                writeString(out, product.getProductId());
+                writeString(out, product.getProductName());
+                out.writeLong(price.unscaledValue().longValueExact());
+                out.writeInt(price.scale());
+                out.writeByte(product.getActive() == null ? 2 : product.getActive() ? 1 : 0);
+            }
+        });
+    }
+    
+    void appendRemove(String productId) throws IOException {
+        append(out -> {
+            out.writeByte(REMOVE);
+            writeString(out, productId);
+        });
+    }
+    
+    /**
+     * Discards every frame, once a snapshot holds their writes.
+     */
+    void truncate() throws IOException {
+        channel.truncate(0);
+        channel.force(true);
+        frames = 0;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+    
+    /**
+     * Streams the payload after a placeholder header, then writes its length and checksum
+     * in place, so a large write is never buffered whole.
+     */
+    private void append(FrameWriter writer) throws IOException {
+        long start = channel.position();
+        try {
+            channel.position(start + FRAME_HEADER_BYTES);
+            crc.reset();
+            payload.length = 0;
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(payload, 1 << 16));
+            writer.write(out);
+            out.flush();
+            if (payload.length > Integer.MAX_VALUE) {
+                throw new IOException("Change log frame too large: " + payload.length + " bytes");
+            }
+            ByteBuffer header = ByteBuffer.allocate(FRAME_HEADER_BYTES)
+                    .putInt((int) payload.length)
+                    .putInt((int) crc.getValue())
+                    .flip();
+            while (header.hasRemaining()) {
+                channel.write(header, start + FRAME_HEADER_BYTES - header.remaining());
+            }
+            if (fsync) {
+                channel.force(false);
+            }
+        } catch (IOException | RuntimeException e) {
+            // Later frames would be dropped on replay behind a torn one
+            channel.truncate(start);
+            channel.position(start);
+            throw e;
+        }
+        frames++;
+    }
+    
+    private static void apply(byte[] payload, Consumer<List<Product>> puts, Consumer<String> removes)
+            throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        List<Product> products = new ArrayList<>();
+        while (in.available() > 0) {
+            byte type = in.readByte();
+            String productId = readString(in);
+            if (type == REMOVE) {
+                removes.accept(productId);
+                continue;
+            }
+            String name = readString(in);
+            BigDecimal price = BigDecimal.valueOf(in.readLong(), in.readInt());
+            byte active = in.readByte();
+            products.add(new Product(productId, name, price, active == 2 ? null : active == 1));
+        }
+        if (!products.isEmpty()) {
+            puts.accept(products);
+        }
+    }
+    
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+    
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length != length) {
+            throw new EOFException("String runs past the end of its frame");
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+    
+    @FunctionalInterface
+    private interface FrameWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+    
+    /**
+     * Appends to the channel at its position, keeping count and checksum of what it wrote.
+     */
+    private final class PayloadStream extends OutputStream {
+        
+        long length;
+        
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+        
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            crc.update(bytes, offset, length);
+            this.length += length;
+            ByteBuffer buffer = ByteBuffer.wrap(bytes, offset, length);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+}
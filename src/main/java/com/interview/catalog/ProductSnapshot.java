@@ -0,0 +1,336 @@
+package com.interview.catalog;
+
+import com.interview.model.Product;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read-only, memory-mapped snapshot of the catalogue in a fixed binary layout, so a
+ * snapshot of any size is queryable as soon as it is mapped:
+ * <pre>
+ * header   magic, format, count, slots (4 bytes each), strings offset, strings length (8 each)
+ * records  count x 32 bytes in ascending price order:
+ *          cents (8), unscaled price (8), string offset (4), id length (4),
+ *          name length (4, -1 for null), price scale (2), active (1: 0, 1 or 2 for null), padding (1)
+ * slots    open-addressing hash table of record index + 1 by product id, 0 when empty
+ * strings  UTF-8 ids and names
+ * </pre>
+ * Range scans binary-search and read the record region directly; products are only
+ * decoded, into new instances, when returned.
+ * <p>
+ * The snapshot itself never changes. Entries replaced or removed after it was written are
+ * marked stale with the store version that did so, so a reader holding an older version
+ * still sees them.
+ */
+final class ProductSnapshot {
+    
+    static final ProductSnapshot EMPTY = new ProductSnapshot(ByteBuffer.allocate(0), ByteBuffer.allocate(0), 0, 0);
+    
+    private static final int MAGIC = 0x50534E50;
+    private static final int FORMAT = 1;
+    private static final int HEADER_BYTES = 32;
+    private static final int RECORD_BYTES = 32;
+    
+    private static final int CENTS = 0;
+    private static final int UNSCALED = 8;
+    private static final int STRING_OFFSET = 16;
+    private static final int ID_LENGTH = 20;
+    private static final int NAME_LENGTH = 24;
+    private static final int SCALE = 28;
+    private static final int ACTIVE = 30;
+    
+    private final ByteBuffer index;
+    private final ByteBuffer strings;
+    private final int size;
+    private final int slotMask;
+    private final int slotsOffset;
+    
+    // Created by the store under its lock on the first write after the snapshot is mapped
+    private StaleMarks stale;
+    
+    private ProductSnapshot(ByteBuffer index, ByteBuffer strings, int size, int slots) {
+        this.index = index;
+        this.strings = strings;
+        this.size = size;
+        this.slotMask = slots - 1;
+        this.slotsOffset = HEADER_BYTES + size * RECORD_BYTES;
+    }
+    
+    /**
+     * Maps a snapshot written by {@link Writer}.
+     */
+    static ProductSnapshot open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+            }
+            header.flip();
+            if (header.remaining() < HEADER_BYTES || header.getInt() != MAGIC || header.getInt() != FORMAT) {
+                throw new IOException("Not a product snapshot: " + file);
+            }
+            int size = header.getInt();
+            int slots = header.getInt();
+            long stringsOffset = header.getLong();
+            long stringsLength = header.getLong();
+            if (size < 0 || Integer.bitCount(slots) != 1
+                    || stringsOffset != HEADER_BYTES + (long) size * RECORD_BYTES + (long) slots * Integer.BYTES
+                    || channel.size() != stringsOffset + stringsLength) {
+                throw new IOException("Truncated or corrupt product snapshot: " + file);
+            }
+            return new ProductSnapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, stringsOffset),
+                    channel.map(FileChannel.MapMode.READ_ONLY, stringsOffset, stringsLength), size, slots);
+        }
+    }
+    
+    /**
+     * Throws {@link IllegalArgumentException} if {@code product} cannot be written to a
+     * snapshot: the price must fit in a {@code long} unscaled value with a scale that fits
+     * in a {@code short}.
+     */
+    static void requireStorable(Product product) {
+        BigDecimal price = product.getPrice();
+        if (price.scale() != (short) price.scale() || price.unscaledValue().bitLength() > 63) {
+            throw new IllegalArgumentException("Price cannot be stored: " + price);
+        }
+    }
+    
+    int size() {
+        return size;
+    }
+    
+    /**
+     * Position of the first record priced at or above {@code minCents}.
+     */
+    int lowerBound(long minCents) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (centsAt(mid) < minCents) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+    
+    long centsAt(int index) {
+        return this.index.getLong(record(index) + CENTS);
+    }
+    
+    boolean activeAt(int index) {
+        return this.index.get(record(index) + ACTIVE) == 1;
+    }
+    
+    Product productAt(int index) {
+        int record = record(index);
+        int offset = this.index.getInt(record + STRING_OFFSET);
+        int idLength = this.index.getInt(record + ID_LENGTH);
+        int nameLength = this.index.getInt(record + NAME_LENGTH);
+        byte active = this.index.get(record + ACTIVE);
+        return new Product(string(offset, idLength),
+                nameLength < 0 ? null : string(offset + idLength, nameLength),
+                BigDecimal.valueOf(this.index.getLong(record + UNSCALED), this.index.getShort(record + SCALE)),
+                active == 2 ? null : active == 1);
+    }
+    
+    /**
+     * Index of the record for {@code productId}, stale or not, or -1.
+     */
+    int indexOf(String productId) {
+        if (size == 0) {
+            return -1;
+        }
+        byte[] id = productId.getBytes(StandardCharsets.UTF_8);
+        for (int slot = slot(productId); ; slot = (slot + 1) & slotMask) {
+            int entry = index.getInt(slotsOffset + slot * Integer.BYTES);
+            if (entry == 0) {
+                return -1;
+            }
+            if (idEquals(entry - 1, id)) {
+                return entry - 1;
+            }
+        }
+    }
+    
+    /**
+     * Whether the record was replaced or removed at or before store {@code version}.
+     */
+    boolean isStale(int index, long version) {
+        StaleMarks marks = stale;
+        return marks != null && marks.isStale(index, version);
+    }
+    
+    /**
+     * Marks the record stale from store {@code version} on (a positive number), unless it
+     * already is. Returns whether it was live.
+     */
+    boolean markStale(int index, long version) {
+        if (stale == null) {
+            stale = new StaleMarks(size);
+        }
+        return stale.mark(index, version);
+    }
+    
+    private int record(int index) {
+        return HEADER_BYTES + index * RECORD_BYTES;
+    }
+    
+    private int slot(String productId) {
+        int hash = productId.hashCode();
+        return (hash ^ (hash >>> 16)) & slotMask;
+    }
+    
+    private boolean idEquals(int index, byte[] id) {
+        int record = record(index);
+        if (this.index.getInt(record + ID_LENGTH) != id.length) {
+            return false;
+        }
+        int offset = this.index.getInt(record + STRING_OFFSET);
+        for (int i = 0; i < id.length; i++) {
+            if (strings.get(offset + i) != id[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private String string(int offset, int length) {
+        byte[] bytes = new byte[length];
+        strings.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * Writes a snapshot of exactly {@code size} products, added in ascending price order.
+     * Each region is mapped as one buffer, so records plus slots and the strings must each
+     * stay under 2 GB (about 50M products).
+     */
+    static final class Writer implements Closeable {
+        
+        private static final int BUFFER_BYTES = 1 << 20;
+        
+        private final FileChannel channel;
+        private final int size;
+        private final int[] slots;
+        private final ByteBuffer records = ByteBuffer.allocate(BUFFER_BYTES);
+        private final ByteBuffer stringBuffer = ByteBuffer.allocate(BUFFER_BYTES);
+        private final long stringsOffset;
+        private long recordsPosition = HEADER_BYTES;
+        private long stringsLength;
+        private long stringsFlushed;
+        private long lastCents = Long.MIN_VALUE;
+        private int written;
+        
+        Writer(Path file, int size) throws IOException {
+            long slotCount = Math.max(2, Long.highestOneBit(Math.max(1, size) * 2L - 1) << 1);
+            if (HEADER_BYTES + (long) size * RECORD_BYTES + slotCount * Integer.BYTES > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Too many products for one snapshot: " + size);
+            }
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.WRITE);
+            this.size = size;
+            this.slots = new int[(int) slotCount];
+            this.stringsOffset = HEADER_BYTES + (long) size * RECORD_BYTES + slotCount * Integer.BYTES;
+        }
+        
+        void add(Product product) throws IOException {
+            long cents = PriceIndex.toCents(product.getPrice());
+            if (written == size || cents < lastCents) {
+                throw new IllegalStateException("Products must be added in price order, " + size + " at most");
+            }
+            byte[] id = product.getProductId().getBytes(StandardCharsets.UTF_8);
+            byte[] name = product.getProductName() == null ? null : product.getProductName().getBytes(StandardCharsets.UTF_8);
+            long end = stringsLength + id.length + (name == null ? 0 : name.length);
+            if (end > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Product strings exceed 2 GB in one snapshot");
+            }
+            
+            if (records.remaining() < RECORD_BYTES) {
+                recordsPosition += flush(records, recordsPosition);
+            }
+            records.putLong(cents)
+                    .putLong(product.getPrice().unscaledValue().longValueExact())
+                    .putInt((int) stringsLength)
+                    .putInt(id.length)
+                    .putInt(name == null ? -1 : name.length)
+                    .putShort((short) product.getPrice().scale())
+                    .put(product.getActive() == null ? (byte) 2 : product.getActive() ? (byte) 1 : (byte) 0)
+                    .put((byte) 0);
+            putString(id);
+            if (name != null) {
+                putString(name);
+            }
+            stringsLength = end;
+            
+            int mask = slots.length - 1;
+            int hash = product.getProductId().hashCode();
+            int slot = (hash ^ (hash >>> 16)) & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = ++written;
+            lastCents = cents;
+        }
+        
+        /**
+         * Writes the hash table and header and forces the file to disk.
+         */
+        void finish() throws IOException {
+            if (written != size) {
+                throw new IllegalStateException("Expected " + size + " products, got " + written);
+            }
+            recordsPosition += flush(records, recordsPosition);
+            flush(stringBuffer, stringsOffset + stringsFlushed);
+            long slotsPosition = recordsPosition;
+            for (int slot : slots) {
+                if (records.remaining() < Integer.BYTES) {
+                    slotsPosition += flush(records, slotsPosition);
+                }
+                records.putInt(slot);
+            }
+            flush(records, slotsPosition);
+            
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                    .putInt(MAGIC).putInt(FORMAT).putInt(size).putInt(slots.length)
+                    .putLong(stringsOffset).putLong(stringsLength);
+            flush(header, 0);
+            channel.force(true);
+        }
+        
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+        
+        private void putString(byte[] bytes) throws IOException {
+            int from = 0;
+            while (from < bytes.length) {
+                if (!stringBuffer.hasRemaining()) {
+                    stringsFlushed += flush(stringBuffer, stringsOffset + stringsFlushed);
+                }
+                int length = Math.min(stringBuffer.remaining(), bytes.length - from);
+                stringBuffer.put(bytes, from, length);
+                from += length;
+            }
+        }
+        
+        private int flush(ByteBuffer buffer, long position) throws IOException {
+            buffer.flip();
+            int length = buffer.remaining();
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            buffer.clear();
+            return length;
+        }
+    }
+}
@@ -0,0 +1,389 @@
+package com.interview.catalog;
+
+import com.interview.model.Product;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In-memory product catalogue, optimised for reads, with optional persistence.
+ * <p>
+ * Point lookups go to a {@link ConcurrentHashMap} keyed by product id. Price range queries
+ * read one immutable snapshot: a large base {@link PriceIndex} and a small delta index of
+ * products written since the base was built. Base entries replaced or removed since are
+ * marked stale with the version that did so rather than copied out. Writers build the next
+ * snapshot under a lock (copy-on-write) and fold the delta into the base once it exceeds
+ * about the square root of the base size, which balances rebuilding the delta on every
+ * write against rebuilding the base, capped at {@code products.store.delta-limit} entries;
+ * readers take no lock and see each product at most once.
+ * <p>
+ * With {@code products.store.persistence.directory} set, the catalogue is also kept on
+ * disk as a {@link ProductSnapshot} plus a {@link ProductChangeLog} of the writes made
+ * since it was written. The snapshot is memory-mapped below the heap indexes, which then
+ * only hold products written since; on startup it is mapped rather than loaded and only
+ * the log is replayed. A new snapshot is written, and the log truncated, once the base
+ * exceeds {@code products.store.persistence.checkpoint-limit} entries and on shutdown.
+ * <p>
+ * Stored products are copies shared between callers and must not be modified.
+ */
+@Component
+public class ProductStore {
+    private static final Logger log = LoggerFactory.getLogger(ProductStore.class);
+    
+    /**
+     * Highest price the store can index; validate prices against it before storing them.
+     */
+    public static final BigDecimal MAX_PRICE = PriceIndex.MAX_PRICE;
+    
+    static final String SNAPSHOT_FILE = "products.snapshot";
+    static final String LOG_FILE = "products.log";
+    
+    private static final String SNAPSHOT_TEMP_FILE = SNAPSHOT_FILE + ".tmp";
+    private static final int DEFAULT_CHECKPOINT_LIMIT = 1 << 20;
+    private static final int MIN_DELTA_LIMIT = 64;
+    
+    private final Map<String, Product> products = new ConcurrentHashMap<>();
+    private final int deltaLimit;
+    private final int checkpointLimit;
+    private final Path directory;
+    private final ProductChangeLog changeLog;
+    private final List<Consumer<String>> changeListeners = new CopyOnWriteArrayList<>();
+    
+    private volatile Snapshot snapshot = Snapshot.of(ProductSnapshot.EMPTY);
+    
+    public ProductStore(int deltaLimit) {
+        this(deltaLimit, "", DEFAULT_CHECKPOINT_LIMIT, false);
+    }
+    
+    @Autowired
+    public ProductStore(@Value("${products.store.delta-limit:16384}") int deltaLimit,
+                        @Value("${products.store.persistence.directory:}") String directory,
+                        @Value("${products.store.persistence.checkpoint-limit:1048576}") int checkpointLimit,
+                        @Value("${products.store.persistence.fsync:false}") boolean fsync) {
+        if (deltaLimit < 1) {
+            throw new IllegalArgumentException("products.store.delta-limit must be positive: " + deltaLimit);
+        }
+        if (checkpointLimit < 1) {
+            throw new IllegalArgumentException("products.store.persistence.checkpoint-limit must be positive: "
+                    + checkpointLimit);
+        }
+        this.deltaLimit = deltaLimit;
+        this.checkpointLimit = checkpointLimit;
+        if (directory.isBlank()) {
+            this.directory = null;
+            this.changeLog = null;
+            return;
+        }
+        
+        long started = System.nanoTime();
+        this.directory = Path.of(directory);
+        try {
+            Files.createDirectories(this.directory);
+            Files.deleteIfExists(this.directory.resolve(SNAPSHOT_TEMP_FILE));
+            Path snapshotFile = this.directory.resolve(SNAPSHOT_FILE);
+            if (Files.exists(snapshotFile)) {
+                snapshot = Snapshot.of(ProductSnapshot.open(snapshotFile));
+            }
+            this.changeLog = new ProductChangeLog(this.directory.resolve(LOG_FILE), fsync);
+            changeLog.replay(this::apply, this::applyRemove);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open product store in " + directory, e);
+        }
+        log.info("Opened product store in {} ms: {} products in {}, {} writes replayed",
+                (System.nanoTime() - started) / 1_000_000, snapshot.mapped.size(), this.directory, changeLog.frames());
+        checkpointIfNeeded();
+    }
+    
+    public Product get(String productId) {
+        while (true) {
+            Snapshot current = snapshot;
+            Product product = products.get(productId);
+            if (product != null) {
+                return product;
+            }
+            int index = current.mapped.indexOf(productId);
+            // A checkpoint moves products out of the map after publishing the new snapshot
+            if (current == snapshot) {
+                return index < 0 || current.mapped.isStale(index, current.version)
+                        ? null : current.mapped.productAt(index);
+            }
+        }
+    }
+    
+    public int size() {
+        return snapshot.mappedLive + products.size();
+    }
+    
+    /**
+     * Registers {@code listener} to be called with the id of every product written or
+     * removed, once readers can see the change. It runs under the store lock and must not
+     * write to the store.
+     */
+    public void addChangeListener(Consumer<String> listener) {
+        changeListeners.add(listener);
+    }
+    
+    /**
+     * Stores a copy of {@code product}, replacing any product with the same id.
+     * The product must have an id and a price.
+     */
+    public Product put(Product product) {
+        return putAll(List.of(product)).get(0);
+    }
+    
+    /**
+     * Stores copies of all {@code source} products with a single index update.
+     */
+    public synchronized List<Product> putAll(Collection<Product> source) {
+        List<Product> stored = new ArrayList<>(source.size());
+        for (Product product : source) {
+            Product copy = new Product(product.getProductId(), product.getProductName(),
+                    product.getPrice(), product.getActive());
+            if (changeLog != null) {
+                ProductSnapshot.requireStorable(copy);
+            }
+            stored.add(copy);
+        }
+        if (changeLog != null) {
+            try {
+                changeLog.appendPuts(stored);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot log product writes", e);
+            }
+        }
+        apply(stored);
+        checkpointIfNeeded();
+        return stored;
+    }
+    
+    public synchronized boolean remove(String productId) {
+        if (get(productId) == null) {
+            return false;
+        }
+        if (changeLog != null) {
+            try {
+                changeLog.appendRemove(productId);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot log product removal", e);
+            }
+        }
+        return applyRemove(productId);
+    }
+    
+    /**
+     * Passes products priced between {@code minPrice} and {@code maxPrice} (inclusive,
+     * either may be {@code null}) to {@code consumer} in ascending price order, up to
+     * {@code limit} of them. With {@code active} set, only products with that flag match.
+     * Returns the number of products passed.
+     */
+    public int forEachInRange(BigDecimal minPrice, BigDecimal maxPrice, Boolean active, int limit,
+                              Consumer<Product> consumer) {
+        long minCents = minPrice != null ? PriceIndex.toCentsClamped(minPrice) : Long.MIN_VALUE;
+        long maxCents = maxPrice != null ? PriceIndex.toCentsClamped(maxPrice) : Long.MAX_VALUE;
+        Snapshot current = snapshot;
+        ProductSnapshot mapped = current.mapped;
+        PriceIndex base = current.base;
+        PriceIndex delta = current.delta;
+        int m = mapped.lowerBound(minCents);
+        int i = base.lowerBound(minCents);
+        int j = delta.lowerBound(minCents);
+        int matched = 0;
+        while (matched < limit) {
+            long mappedCents = m < mapped.size() ? mapped.centsAt(m) : 0;
+            boolean mappedInRange = m < mapped.size() && mappedCents <= maxCents;
+            boolean baseInRange = i < base.size() && base.centsAt(i) <= maxCents;
+            boolean deltaInRange = j < delta.size() && delta.centsAt(j) <= maxCents;
+            if (!mappedInRange && !baseInRange && !deltaInRange) {
+                break;
+            }
+            Product product;
+            if (mappedInRange && (!baseInRange || mappedCents <= base.centsAt(i))
+                    && (!deltaInRange || mappedCents <= delta.centsAt(j))) {
+                int index = m++;
+                if ((active != null && mapped.activeAt(index) != active) || mapped.isStale(index, current.version)) {
+                    continue;
+                }
+                product = mapped.productAt(index);
+            } else {
+                boolean fromBase = baseInRange && (!deltaInRange || base.centsAt(i) <= delta.centsAt(j));
+                PriceIndex from = fromBase ? base : delta;
+                int index = fromBase ? i++ : j++;
+                if ((active != null && from.activeAt(index) != active)
+                        || (fromBase && base.isStale(index, current.version))) {
+                    continue;
+                }
+                product = from.productAt(index);
+            }
+            consumer.accept(product);
+            matched++;
+        }
+        return matched;
+    }
+    
+    public List<Product> findInRange(BigDecimal minPrice, BigDecimal maxPrice, Boolean active, int limit) {
+        List<Product> found = new ArrayList<>(Math.min(limit, 256));
+        forEachInRange(minPrice, maxPrice, active, limit, found::add);
+        return found;
+    }
+    
+    /**
+     * Writes every product to a new snapshot, maps it in place of the heap indexes and
+     * truncates the change log. Writers wait for it; readers do not.
+     */
+    public synchronized void checkpoint() {
+        if (changeLog == null) {
+            throw new IllegalStateException("products.store.persistence.directory is not set");
+        }
+        long started = System.nanoTime();
+        Snapshot current = snapshot;
+        Path file = directory.resolve(SNAPSHOT_FILE);
+        Path next = directory.resolve(SNAPSHOT_TEMP_FILE);
+        try {
+            try (ProductSnapshot.Writer writer = new ProductSnapshot.Writer(next, current.mappedLive + products.size())) {
+                forEachInRange(null, null, null, Integer.MAX_VALUE, product -> {
+                    try {
+                        writer.add(product);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                writer.finish();
+            }
+            Files.move(next, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            snapshot = Snapshot.of(ProductSnapshot.open(file));
+            products.clear();
+            // A crash before this replays writes the snapshot already holds, which is harmless
+            changeLog.truncate();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write product snapshot " + file, e);
+        }
+        log.info("Wrote {} products to {} in {} ms", snapshot.mapped.size(), file,
+                (System.nanoTime() - started) / 1_000_000);
+    }
+    
+    /**
+     * Writes a snapshot if anything was logged since the last one, and closes the log.
+     */
+    @PreDestroy
+    public synchronized void close() {
+        if (changeLog == null) {
+            return;
+        }
+        if (changeLog.frames() > 0) {
+            checkpoint();
+        }
+        try {
+            changeLog.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close product change log", e);
+        }
+    }
+    
+    private boolean isCurrent(Product product) {
+        return products.get(product.getProductId()) == product;
+    }
+    
+    private void checkpointIfNeeded() {
+        if (changeLog != null && snapshot.base.size() > checkpointLimit) {
+            checkpoint();
+        }
+    }
+    
+    // Callers hold the lock, or are replaying the log before the store is shared
+    private void apply(List<Product> stored) {
+        PriceIndex written = PriceIndex.of(stored);
+        Snapshot current = snapshot;
+        long version = current.version + 1;
+        int mappedLive = current.mappedLive;
+        List<String> writtenIds = new ArrayList<>(stored.size());
+        for (Product product : stored) {
+            Product previous = products.put(product.getProductId(), product);
+            if (previous != null) {
+                current.base.markStale(previous, version);
+            }
+            writtenIds.add(product.getProductId());
+            if (markStale(current.mapped, product.getProductId(), version)) {
+                mappedLive--;
+            }
+        }
+        publish(written, version, mappedLive);
+        notifyChanged(writtenIds);
+    }
+    
+    private boolean applyRemove(String productId) {
+        Snapshot current = snapshot;
+        long version = current.version + 1;
+        Product removed = products.remove(productId);
+        if (removed != null) {
+            current.base.markStale(removed, version);
+        }
+        boolean staled = markStale(current.mapped, productId, version);
+        if (removed == null && !staled) {
+            return false;
+        }
+        publish(PriceIndex.EMPTY, version, staled ? current.mappedLive - 1 : current.mappedLive);
+        notifyChanged(List.of(productId));
+        return true;
+    }
+    
+    private void notifyChanged(List<String> productIds) {
+        for (Consumer<String> listener : changeListeners) {
+            productIds.forEach(listener);
+        }
+    }
+    
+    private static boolean markStale(ProductSnapshot mapped, String productId, long version) {
+        int index = mapped.indexOf(productId);
+        return index >= 0 && mapped.markStale(index, version);
+    }
+    
+    // Callers hold the lock, so the map is current for every id and the replaced base
+    // entries are already marked stale
+    private void publish(PriceIndex written, long version, int mappedLive) {
+        Snapshot current = snapshot;
+        PriceIndex delta = PriceIndex.merge(current.delta, written, this::isCurrent);
+        if (delta.size() > foldLimit(current.base)) {
+            PriceIndex base = PriceIndex.merge(current.base, delta, this::isCurrent);
+            snapshot = new Snapshot(current.mapped, base, PriceIndex.EMPTY, version, mappedLive);
+        } else {
+            snapshot = new Snapshot(current.mapped, current.base, delta, version, mappedLive);
+        }
+    }
+    
+    // Each write copies the delta and each fold copies the base, so folding at about the
+    // square root of the base size keeps a steady stream of writes near O(sqrt n) each
+    private int foldLimit(PriceIndex base) {
+        return Math.min(deltaLimit, Math.max(MIN_DELTA_LIMIT, (int) Math.sqrt(base.size())));
+    }
+    
+    /**
+     * Entries of {@code base} and {@code mapped} marked stale at or before {@code version}
+     * have been replaced or removed since they were built; the current versions of
+     * products written since {@code base} was built are in {@code delta}.
+     * {@code mappedLive} counts the live entries of {@code mapped}.
+     */
+    private record Snapshot(ProductSnapshot mapped, PriceIndex base, PriceIndex delta, long version,
+                            int mappedLive) {
+        
+        static Snapshot of(ProductSnapshot mapped) {
+            return new Snapshot(mapped, PriceIndex.EMPTY, PriceIndex.EMPTY, 0, mapped.size());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.interview.catalog;
+
+/**
+ * Per-entry store versions at which entries of an immutable index were replaced or
+ * removed, so a reader holding an older version still sees them. Kept in pages of 1024
+ * entries allocated on their first write, so a few updates to a large index cost a few
+ * pages rather than a {@code long} per entry.
+ * <p>
+ * Marks are written by the store under its lock before it publishes the version that
+ * made them; readers compare against the version they read and need no lock.
+ */
+final class StaleMarks {
+    
+    private static final int PAGE_SHIFT = 10;
+    private static final int PAGE_MASK = (1 << PAGE_SHIFT) - 1;
+    
+    // 0 means live
+    private final long[][] pages;
+    
+    StaleMarks(int size) {
+        this.pages = new long[(size + PAGE_MASK) >>> PAGE_SHIFT][];
+    }
+    
+    /**
+     * Whether the entry was replaced or removed at or before store {@code version}.
+     */
+    boolean isStale(int index, long version) {
+        long[] page = pages[index >>> PAGE_SHIFT];
+        if (page == null) {
+            return false;
+        }
+        long since = page[index & PAGE_MASK];
+        return since != 0 && since <= version;
+    }
+    
+    /**
+     * Marks the entry stale from store {@code version} on (a positive number), unless it
+     * already is. Returns whether it was live.
+     */
+    boolean mark(int index, long version) {
+        long[] page = pages[index >>> PAGE_SHIFT];
+        if (page == null) {
+            page = new long[1 << PAGE_SHIFT];
+            pages[index >>> PAGE_SHIFT] = page;
+        }
+        if (page[index & PAGE_MASK] != 0) {
+            return false;
+        }
+        page[index & PAGE_MASK] = version;
+        return true;
+    }
+}
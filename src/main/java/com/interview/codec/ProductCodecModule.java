@@ -0,0 +1,48 @@
+package com.interview.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.interview.model.Product;
+
+import java.io.IOException;
+
+/**
+ * Jackson module that routes {@link Product} through {@link ProductJsonCodec} instead
+ * of reflective bean (de)serialization. The wire format does not depend on the mapper's
+ * property naming strategy.
+ */
+public class ProductCodecModule extends SimpleModule {
+    
+    public ProductCodecModule() {
+        super("ProductCodecModule");
+        addSerializer(Product.class, new Serializer());
+        addDeserializer(Product.class, new Deserializer());
+    }
+    
+    static class Serializer extends StdSerializer<Product> {
+        Serializer() {
+            super(Product.class);
+        }
+        
+        @Override
+        public void serialize(Product value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            ProductJsonCodec.write(value, generator);
+        }
+    }
+    
+    static class Deserializer extends StdDeserializer<Product> {
+        Deserializer() {
+            super(Product.class);
+        }
+        
+        @Override
+        public Product deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return ProductJsonCodec.read(parser);
+        }
+    }
+}
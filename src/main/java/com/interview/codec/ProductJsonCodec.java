@@ -0,0 +1,209 @@
+package com.interview.codec;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.interview.model.Product;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+
+/**
+ * Hand-written streaming codec for {@link Product}.
+ * <p>
+ * Writes the same wire format as the {@code @JsonProperty} mapping on {@code Product}
+ * ({@code product_id}, {@code product_name}, {@code price}, {@code is_active}) without
+ * reflection: field names are pre-encoded and prices are written from their unscaled
+ * digits rather than through {@code BigDecimal.toString()}. Null fields are omitted.
+ * The same field mapping works with any Jackson generator, including Smile and CBOR.
+ */
+public final class ProductJsonCodec {
+    
+    public static final String PRODUCT_ID = "product_id";
+    public static final String PRODUCT_NAME = "product_name";
+    public static final String PRICE = "price";
+    public static final String IS_ACTIVE = "is_active";
+    
+    private static final SerializableString PRODUCT_ID_NAME = new SerializedString(PRODUCT_ID);
+    private static final SerializableString PRODUCT_NAME_NAME = new SerializedString(PRODUCT_NAME);
+    private static final SerializableString PRICE_NAME = new SerializedString(PRICE);
+    private static final SerializableString IS_ACTIVE_NAME = new SerializedString(IS_ACTIVE);
+    
+    /** Longest plain decimal of a long with a scale up to 18: sign, 19 digits, point, leading zeros. */
+    private static final int MAX_PRICE_CHARS = 40;
+    /** Below 10^15 (< 2^50) an unscaled value survives the round trip through a double exactly. */
+    private static final int MAX_EXACT_DIGITS = 15;
+    private static final double[] POWERS_OF_TEN = new double[MAX_EXACT_DIGITS + 1];
+    
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+    
+    private static final JsonFactory DEFAULT_FACTORY = new JsonFactory();
+    
+    // Generators copy the characters before writeNumber returns, so one buffer per thread is enough
+    private static final ThreadLocal<char[]> PRICE_BUFFER = ThreadLocal.withInitial(() -> new char[MAX_PRICE_CHARS]);
+    
+    private ProductJsonCodec() {
+    }
+    
+    public static void write(Product product, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        if (product.getProductId() != null) {
+            generator.writeFieldName(PRODUCT_ID_NAME);
+            generator.writeString(product.getProductId());
+        }
+        if (product.getProductName() != null) {
+            generator.writeFieldName(PRODUCT_NAME_NAME);
+            generator.writeString(product.getProductName());
+        }
+        if (product.getPrice() != null) {
+            generator.writeFieldName(PRICE_NAME);
+            writePrice(product.getPrice(), generator);
+        }
+        if (product.getActive() != null) {
+            generator.writeFieldName(IS_ACTIVE_NAME);
+            generator.writeBoolean(product.getActive());
+        }
+        generator.writeEndObject();
+    }
+    
+    /**
+     * Reads one product object. The parser may be positioned on the {@code START_OBJECT}
+     * token or just before it; it is left on the matching {@code END_OBJECT}.
+     */
+    public static Product read(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token != JsonToken.START_OBJECT) {
+            token = parser.nextToken();
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected start of Product object but found " + token);
+        }
+        Product product = new Product();
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (field) {
+                case PRODUCT_ID -> product.setProductId(parser.getValueAsString());
+                case PRODUCT_NAME -> product.setProductName(parser.getValueAsString());
+                case PRICE -> product.setPrice(readPrice(parser, value));
+                case IS_ACTIVE -> product.setActive(readBoolean(parser, value));
+                default -> parser.skipChildren();
+            }
+        }
+        if (parser.currentToken() != JsonToken.END_OBJECT) {
+            throw new JsonParseException(parser, "Unexpected token in Product object: " + parser.currentToken());
+        }
+        return product;
+    }
+    
+    public static byte[] toBytes(Product product) {
+        try (ByteArrayBuilder buffer = new ByteArrayBuilder(DEFAULT_FACTORY._getBufferRecycler());
+             JsonGenerator generator = DEFAULT_FACTORY.createGenerator(buffer)) {
+            write(product, generator);
+            generator.flush();
+            return buffer.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode Product", e);
+        }
+    }
+    
+    public static Product fromBytes(byte[] json) {
+        try (JsonParser parser = DEFAULT_FACTORY.createParser(json)) {
+            return read(parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode Product", e);
+        }
+    }
+    
+    static void writePrice(BigDecimal price, JsonGenerator generator) throws IOException {
+        if (!(generator instanceof JsonGeneratorImpl)) {
+            // Binary formats (Smile, CBOR) encode BigDecimal natively from scale and unscaled bytes,
+            // and token buffers keep the value itself. canWriteFormattedNumbers() is no test for
+            // JSON text: the UTF-8 byte generator reports false.
+            generator.writeNumber(price);
+            return;
+        }
+        int scale = price.scale();
+        int precision = price.precision();
+        // Outside this range BigDecimal.toString() may switch to exponent notation, or the
+        // digits cannot be recovered exactly below; defer to Jackson, whose output is identical.
+        if (scale < 0 || scale > MAX_EXACT_DIGITS || precision > MAX_EXACT_DIGITS || precision - scale - 1 < -6) {
+            generator.writeNumber(price);
+            return;
+        }
+        // unscaledValue() and movePointRight() both allocate. doubleValue() of a compact
+        // price is one correctly rounded division, and for fewer than 2^50 units multiplying
+        // back is within 0.26 of the unscaled value, so rounding restores it exactly.
+        long unscaled = Math.round(price.doubleValue() * POWERS_OF_TEN[scale]);
+        char[] buffer = PRICE_BUFFER.get();
+        int length = formatDecimal(unscaled, scale, buffer);
+        generator.writeNumber(buffer, 0, length);
+    }
+    
+    /**
+     * Formats {@code unscaled * 10^-scale} as a plain decimal into {@code buffer} and
+     * returns the number of characters written.
+     */
+    static int formatDecimal(long unscaled, int scale, char[] buffer) {
+        boolean negative = unscaled < 0;
+        long magnitude = Math.abs(unscaled);
+        int pos = buffer.length;
+        int digits = 0;
+        do {
+            if (digits == scale && scale > 0) {
+                buffer[--pos] = '.';
+            }
+            buffer[--pos] = (char) ('0' + magnitude % 10);
+            magnitude /= 10;
+            digits++;
+        } while (magnitude > 0 || digits <= scale);
+        if (negative) {
+            buffer[--pos] = '-';
+        }
+        int length = buffer.length - pos;
+        System.arraycopy(buffer, pos, buffer, 0, length);
+        return length;
+    }
+    
+    private static BigDecimal readPrice(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER
+                    ? new BigDecimal(parser.getBigIntegerValue())
+                    : BigDecimal.valueOf(parser.getLongValue());
+        }
+        if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return parser.getDecimalValue();
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            try {
+                return new BigDecimal(parser.getText());
+            } catch (NumberFormatException e) {
+                // Reported like any other malformed input rather than escaping as a server error
+                throw new JsonParseException(parser, "Price is not a number: \"" + parser.getText() + "\"", e);
+            }
+        }
+        throw new JsonParseException(parser, "Expected numeric price but found " + token);
+    }
+    
+    private static Boolean readBoolean(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE) {
+            return token == JsonToken.VALUE_TRUE;
+        }
+        throw new JsonParseException(parser, "Expected boolean is_active but found " + token);
+    }
+}
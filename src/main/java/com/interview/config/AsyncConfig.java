@@ -0,0 +1,21 @@
+package com.interview.config;
+
+import com.interview.util.RequestContextTaskDecorator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Async execution configuration.
+ * Spring Boot applies the {@link TaskDecorator} bean to the auto-configured
+ * {@code applicationTaskExecutor}, so MVC async handlers and {@code @Async} methods
+ * see the caller's request context.
+ */
+@Configuration
+public class AsyncConfig {
+    
+    @Bean
+    public TaskDecorator requestContextTaskDecorator() {
+        return new RequestContextTaskDecorator();
+    }
+}
@@ -0,0 +1,24 @@
+package com.interview.config;
+
+import org.springframework.context.annotation.Conditional;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Registers the annotated component only when the datasource is enabled, i.e. when
+ * {@code DataSourceAutoConfiguration} is not listed in {@code spring.autoconfigure.exclude}
+ * (as it is in the {@code unit} profile). Use it on beans that need {@code UserRepository}.
+ * <p>
+ * Unlike {@code @ConditionalOnBean}, this only reads the environment, so it is reliable
+ * on component-scanned classes.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Conditional(OnDatabaseCondition.class)
+public @interface ConditionalOnDatabase {
+}
@@ -0,0 +1,76 @@
+package com.interview.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Connection pool sizing and optional read-replica routing.
+ * <p>
+ * Pools are sized from the core count by {@link HikariPoolSizing}
+ * ({@code datasource.pool.connections-per-core}, {@code datasource.pool.spindles}).
+ * Statement caching is a driver setting, see {@code application-db.yml}.
+ * <p>
+ * Setting {@code datasource.replica.url} (plus {@code username}, {@code password} and
+ * optionally {@code hikari.*}) adds a second pool. Read-only transactions, including the
+ * query methods of {@code UserRepository}, then run on the replica and everything else on
+ * the primary built from {@code spring.datasource.*}. Both pools report Hikari's metrics
+ * under {@code hikaricp.*}, tagged with pool {@code primary} or {@code replica}.
+ */
+@Configuration
+@ConditionalOnDatabase
+public class DataSourceConfig {
+    
+    @Bean
+    public static HikariPoolSizing hikariPoolSizing(
+            @Value("${datasource.pool.connections-per-core:2}") int connectionsPerCore,
+            @Value("${datasource.pool.spindles:1}") int spindles) {
+        return new HikariPoolSizing(Runtime.getRuntime().availableProcessors(), connectionsPerCore, spindles);
+    }
+    
+    @Configuration
+    @ConditionalOnProperty("datasource.replica.url")
+    static class ReadReplicaConfig {
+        
+        @Bean
+        @ConfigurationProperties("spring.datasource.hikari")
+        public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+            HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+            primary.setPoolName("primary");
+            return primary;
+        }
+        
+        @Bean
+        @ConfigurationProperties("datasource.replica.hikari")
+        public HikariDataSource replicaDataSource(@Value("${datasource.replica.url}") String url,
+                                                  @Value("${datasource.replica.username:}") String username,
+                                                  @Value("${datasource.replica.password:}") String password) {
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(url)
+                    .username(username)
+                    .password(password)
+                    .build();
+            replica.setPoolName("replica");
+            replica.setReadOnly(true);
+            return replica;
+        }
+        
+        @Bean
+        @Primary
+        public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                     @Qualifier("replicaDataSource") DataSource replica) {
+            return new LazyConnectionDataSourceProxy(new ReadOnlyRoutingDataSource(primary, replica));
+        }
+    }
+}
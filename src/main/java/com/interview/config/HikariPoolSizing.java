@@ -0,0 +1,46 @@
+package com.interview.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * Sizes every Hikari pool from the number of cores, as
+ * {@code cores * connectionsPerCore + spindles}, instead of Hikari's fixed default of 10.
+ * <p>
+ * Only pools without an explicit {@code maximum-pool-size} are changed, so
+ * {@code spring.datasource.hikari.maximum-pool-size} still wins.
+ * A pool much larger than the database can run in parallel only adds queueing and context
+ * switches on the server; callers wait in the pool instead, which shows up in
+ * {@code hikaricp.connections.pending} and {@code hikaricp.connections.acquire}.
+ */
+public class HikariPoolSizing implements BeanPostProcessor {
+    private static final Logger log = LoggerFactory.getLogger(HikariPoolSizing.class);
+    
+    private final int poolSize;
+    
+    public HikariPoolSizing(int cores, int connectionsPerCore, int spindles) {
+        this.poolSize = poolSize(cores, connectionsPerCore, spindles);
+    }
+    
+    public static int poolSize(int cores, int connectionsPerCore, int spindles) {
+        if (cores < 1 || connectionsPerCore < 1 || spindles < 0) {
+            throw new IllegalArgumentException("cores and connectionsPerCore must be positive, spindles non-negative");
+        }
+        return cores * connectionsPerCore + spindles;
+    }
+    
+    public int getPoolSize() {
+        return poolSize;
+    }
+    
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource hikari && hikari.getMaximumPoolSize() < 1) {
+            hikari.setMaximumPoolSize(poolSize);
+            log.debug("Sized connection pool {} to {} connections", beanName, poolSize);
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,19 @@
+package com.interview.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.interview.codec.ProductCodecModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Jackson configuration.
+ * Spring Boot registers every {@link Module} bean with the application's ObjectMapper.
+ */
+@Configuration
+public class JacksonConfig {
+    
+    @Bean
+    public Module productCodecModule() {
+        return new ProductCodecModule();
+    }
+}
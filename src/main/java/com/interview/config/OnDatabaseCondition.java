@@ -0,0 +1,24 @@
+package com.interview.config;
+
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+import java.util.List;
+
+/**
+ * Condition behind {@link ConditionalOnDatabase}.
+ */
+class OnDatabaseCondition implements Condition {
+    
+    @Override
+    public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+        List<String> excluded = Binder.get(context.getEnvironment())
+                .bind("spring.autoconfigure.exclude", Bindable.listOf(String.class))
+                .orElse(List.of());
+        return !excluded.contains(DataSourceAutoConfiguration.class.getName());
+    }
+}
@@ -0,0 +1,42 @@
+package com.interview.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Reports which thread model serves controller requests.
+ * <p>
+ * Virtual threads are opt-in through Spring Boot's {@code spring.threads.virtual.enabled}
+ * property, which switches Tomcat and the MVC async executor to virtual threads on
+ * Java 21+. Request context never depends on the thread pool: {@link UserContextFilter}
+ * scopes it to each request, so it is safe with either model.
+ */
+@Configuration
+public class RequestExecutionConfig {
+    private static final Logger log = LoggerFactory.getLogger(RequestExecutionConfig.class);
+    
+    static final int VIRTUAL_THREADS_MIN_JAVA = 21;
+    
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsRequested;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void reportThreadModel() {
+        if (!virtualThreadsRequested) {
+            log.info("Serving requests on platform threads");
+        } else if (virtualThreadsAvailable()) {
+            log.info("Serving requests on virtual threads");
+        } else {
+            log.warn("spring.threads.virtual.enabled is set but Java {} has no virtual threads; " +
+                    "serving requests on platform threads", Runtime.version().feature());
+        }
+    }
+    
+    public static boolean virtualThreadsAvailable() {
+        return Runtime.version().feature() >= VIRTUAL_THREADS_MIN_JAVA;
+    }
+}
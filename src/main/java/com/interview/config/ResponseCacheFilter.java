@@ -0,0 +1,190 @@
+package com.interview.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.interview.catalog.ProductStore;
+import com.interview.util.RequestContext;
+import com.interview.util.RequestContextHolder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Serves repeated {@code GET}s of {@code /api/products/{id}}, {@code /api/products/sample}
+ * and {@code /api/user/profile} from their encoded bytes, with strong ETags.
+ * <p>
+ * A miss runs the handler, hashes the encoded body into the ETag (MD5, like Spring's
+ * {@code ShallowEtagHeaderFilter}) and keeps the bytes in a Caffeine cache bounded by
+ * {@code responses.cache.maximum-bytes} and {@code responses.cache.ttl}. A hit writes the
+ * cached bytes without running the handler or a message converter. Either way a matching
+ * {@code If-None-Match} is answered with a bodiless 304.
+ * <p>
+ * Entries are keyed by path and {@code Accept} header, and the profile additionally by the
+ * user and session of the bound {@link RequestContext}, so one user's response is never
+ * served to another. Products are invalidated as {@link ProductStore} writes them; a
+ * response rendered while its product was being written is not cached. Requests with a
+ * query string are not cached.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class ResponseCacheFilter extends OncePerRequestFilter {
+    
+    static final String PRODUCTS_PATH = "/api/products/";
+    static final String SAMPLE_PATH = "/api/products/sample";
+    static final String PROFILE_PATH = "/api/user/profile";
+    
+    private static final String PRODUCT_VARY = HttpHeaders.ACCEPT;
+    private static final String PROFILE_VARY = String.join(", ", HttpHeaders.ACCEPT,
+            UserContextFilter.USER_ID_HEADER, UserContextFilter.SESSION_ID_HEADER);
+    
+    // Invalidations bump the stripe of the resource, so a render that overlapped one is dropped
+    private static final int GENERATION_STRIPES = 256;
+    
+    private final Cache<Resource, Map<String, CachedResponse>> responses;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    
+    public ResponseCacheFilter(ProductStore productStore,
+                               ObjectProvider<MeterRegistry> meterRegistry,
+                               @Value("${responses.cache.maximum-bytes:16777216}") long maximumBytes,
+                               @Value("${responses.cache.ttl:PT5M}") Duration ttl) {
+        this.responses = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((Resource resource, Map<String, CachedResponse> variants) -> weigh(variants))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        productStore.addChangeListener(productId -> invalidate(Resource.product(productId)));
+        MeterRegistry registry = meterRegistry != null ? meterRegistry.getIfAvailable() : null;
+        if (registry != null) {
+            CaffeineCacheMetrics.monitor(registry, responses, "http.responses");
+        }
+    }
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod()) || request.getQueryString() != null;
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Resource resource = resourceOf(request);
+        if (resource == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        String variant = accept != null ? accept : "";
+        Map<String, CachedResponse> variants = responses.getIfPresent(resource);
+        CachedResponse cached = variants != null ? variants.get(variant) : null;
+        if (cached == null) {
+            long generation = generations.get(stripe(resource));
+            ContentCachingResponseWrapper rendered = new ContentCachingResponseWrapper(response);
+            filterChain.doFilter(request, rendered);
+            if (rendered.getStatus() != HttpServletResponse.SC_OK || rendered.getContentType() == null) {
+                rendered.copyBodyToResponse();
+                return;
+            }
+            byte[] body = rendered.getContentAsByteArray();
+            cached = new CachedResponse('"' + DigestUtils.md5DigestAsHex(body) + '"', rendered.getContentType(), body);
+            store(resource, variant, generation, cached);
+        }
+        write(cached, resource, request, response);
+    }
+    
+    /**
+     * Drops every cached variant of {@code resource}.
+     */
+    void invalidate(Resource resource) {
+        generations.incrementAndGet(stripe(resource));
+        responses.invalidate(resource);
+    }
+    
+    private void store(Resource resource, String variant, long generation, CachedResponse cached) {
+        responses.asMap().compute(resource, (key, variants) -> {
+            if (generations.get(stripe(resource)) != generation) {
+                return variants;
+            }
+            Map<String, CachedResponse> updated = variants != null ? new HashMap<>(variants) : new HashMap<>(2);
+            updated.put(variant, cached);
+            return updated;
+        });
+    }
+    
+    private static void write(CachedResponse cached, Resource resource, HttpServletRequest request,
+                              HttpServletResponse response) throws IOException {
+        response.setHeader(HttpHeaders.VARY, resource.userScoped() ? PROFILE_VARY : PRODUCT_VARY);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, resource.userScoped() ? "private, no-cache" : "no-cache");
+        if (new ServletWebRequest(request, response).checkNotModified(cached.etag())) {
+            return;
+        }
+        response.setContentType(cached.contentType());
+        response.setContentLength(cached.body().length);
+        response.getOutputStream().write(cached.body());
+    }
+    
+    private static Resource resourceOf(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (PROFILE_PATH.equals(path)) {
+            RequestContext context = RequestContextHolder.getContext();
+            return context != null
+                    ? new Resource(PROFILE_PATH, context.getUserId(), context.getSessionId(), true)
+                    : new Resource(PROFILE_PATH, null, null, true);
+        }
+        if (SAMPLE_PATH.equals(path)) {
+            return new Resource(SAMPLE_PATH, null, null, false);
+        }
+        if (path.startsWith(PRODUCTS_PATH) && path.length() > PRODUCTS_PATH.length()
+                && path.indexOf('/', PRODUCTS_PATH.length()) < 0 && path.indexOf(';') < 0) {
+            return Resource.product(UriUtils.decode(path.substring(PRODUCTS_PATH.length()), StandardCharsets.UTF_8));
+        }
+        return null;
+    }
+    
+    private static int stripe(Resource resource) {
+        return resource.hashCode() & (GENERATION_STRIPES - 1);
+    }
+    
+    private static int weigh(Map<String, CachedResponse> variants) {
+        int bytes = 0;
+        for (Map.Entry<String, CachedResponse> variant : variants.entrySet()) {
+            bytes += variant.getKey().length() + variant.getValue().body().length + 128;
+        }
+        return bytes;
+    }
+    
+    /**
+     * What a response is rendered from; {@code userId} and {@code sessionId} are set for
+     * user-scoped resources only.
+     */
+    record Resource(String path, String userId, String sessionId, boolean userScoped) {
+        
+        static Resource product(String productId) {
+            return new Resource(PRODUCTS_PATH + productId, null, null, false);
+        }
+    }
+    
+    private record CachedResponse(String etag, String contentType, byte[] body) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.interview.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} maintenance tasks such as the active-user count reconciliation.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,83 @@
+package com.interview.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hibernate second-level cache for {@code User}, backed by Caffeine's JCache provider.
+ * <p>
+ * Every region is created here with its own bound, and Hibernate is told to fail rather
+ * than create a missing region, so no region can grow without limit:
+ * <ul>
+ *   <li>{@value #USERS_REGION}: {@code User} entities by id
+ *       ({@code users.second-level-cache.entity.*})</li>
+ *   <li>{@value #USER_QUERIES_REGION}: ids returned by cacheable {@code UserRepository}
+ *       queries ({@code users.second-level-cache.queries.*})</li>
+ *   <li>the default query results region, bounded like {@value #USER_QUERIES_REGION}</li>
+ *   <li>the update-timestamps region, which Hibernate uses to invalidate query results when
+ *       a table changes; it holds one entry per table and is never evicted</li>
+ * </ul>
+ * Entities are {@code READ_WRITE}: updates made through Hibernate replace the cached entry
+ * on commit and invalidate cached query results for {@code users}. Changes made outside
+ * Hibernate are only seen once entries expire.
+ */
+@Configuration
+@ConditionalOnDatabase
+public class SecondLevelCacheConfig {
+    
+    public static final String USERS_REGION = "users";
+    public static final String USER_QUERIES_REGION = "users-queries";
+    
+    static final String DEFAULT_QUERY_RESULTS_REGION = "default-query-results-region";
+    static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+    
+    // Caching providers share managers per URI, so each context gets its own
+    private static final AtomicInteger managerIds = new AtomicInteger();
+    
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${users.second-level-cache.entity.maximum-size:10000}") long entityMaximumSize,
+            @Value("${users.second-level-cache.entity.ttl:PT10M}") Duration entityTtl,
+            @Value("${users.second-level-cache.queries.maximum-size:1000}") long queryMaximumSize,
+            @Value("${users.second-level-cache.queries.ttl:PT1M}") Duration queryTtl) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("hibernate-second-level-cache-" + managerIds.incrementAndGet()),
+                        SecondLevelCacheConfig.class.getClassLoader());
+        cacheManager.createCache(USERS_REGION, region(entityMaximumSize, entityTtl));
+        cacheManager.createCache(USER_QUERIES_REGION, region(queryMaximumSize, queryTtl));
+        cacheManager.createCache(DEFAULT_QUERY_RESULTS_REGION, region(queryMaximumSize, queryTtl));
+        cacheManager.createCache(UPDATE_TIMESTAMPS_REGION, new CaffeineConfiguration<>());
+        return cacheManager;
+    }
+    
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+    
+    private static CaffeineConfiguration<Object, Object> region(long maximumSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        return configuration;
+    }
+}
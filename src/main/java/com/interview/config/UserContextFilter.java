@@ -0,0 +1,43 @@
+package com.interview.config;
+
+import com.interview.util.RequestContext;
+import com.interview.util.RequestContextHolder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Binds a {@link RequestContext} built from the {@code X-User-ID} and {@code X-Session-ID}
+ * headers for the duration of the request. The binding is dropped when the request
+ * completes, so the serving thread is left exactly as it was found.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class UserContextFilter extends OncePerRequestFilter {
+    
+    public static final String USER_ID_HEADER = "X-User-ID";
+    public static final String SESSION_ID_HEADER = "X-Session-ID";
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        try (RequestContextHolder.Binding ignored = RequestContextHolder.bind(contextOf(request))) {
+            filterChain.doFilter(request, response);
+        }
+    }
+    
+    private static RequestContext contextOf(HttpServletRequest request) {
+        String userId = request.getHeader(USER_ID_HEADER);
+        if (userId == null || userId.isBlank()) {
+            return null;
+        }
+        return new RequestContext(userId, request.getHeader(SESSION_ID_HEADER));
+    }
+}
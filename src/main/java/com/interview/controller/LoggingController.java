@@ -0,0 +1,63 @@
+package com.interview.controller;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import com.interview.logging.AsyncBatchingAppender;
+import com.interview.logging.AsyncLogMetrics;
+import com.interview.service.LoggingService;
+import com.interview.service.operation.OperationLatency;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Controller exposing the state of the asynchronous logging pipeline and of
+ * {@link LoggingService} operations
+ */
+@RestController
+@RequestMapping("/api/logging")
+public class LoggingController {
+    
+    @Autowired
+    private LoggingService loggingService;
+    
+    /**
+     * Queue depth, dropped and written events for every {@link AsyncBatchingAppender}.
+     */
+    @GetMapping("/metrics")
+    public List<AsyncLogMetrics> getMetrics() {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+            return List.of();
+        }
+        Map<AsyncBatchingAppender, Boolean> appenders = new IdentityHashMap<>();
+        for (Logger logger : context.getLoggerList()) {
+            Iterator<Appender<ILoggingEvent>> attached = logger.iteratorForAppenders();
+            while (attached.hasNext()) {
+                if (attached.next() instanceof AsyncBatchingAppender appender) {
+                    appenders.put(appender, Boolean.TRUE);
+                }
+            }
+        }
+        List<AsyncLogMetrics> metrics = new ArrayList<>();
+        appenders.keySet().forEach(appender -> metrics.add(appender.getMetrics()));
+        return metrics;
+    }
+    
+    /**
+     * Count, failures, mean and max latency per operation name.
+     */
+    @GetMapping("/operations")
+    public Map<String, OperationLatency> getOperationLatencies() {
+        return loggingService.getOperationLatencies();
+    }
+}
@@ -1,28 +1,119 @@
 package com.interview.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.interview.model.OrderResult;
+import com.interview.service.BatchOrderService;
 import com.interview.service.OrderProcessingService;
+import com.interview.service.idempotency.IdempotencyStore;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 
 @RestController
 @RequestMapping("/api/orders")
 public class OrderController {
 
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     @Autowired
     private OrderProcessingService orderProcessingService;
 
+    @Autowired
+    private BatchOrderService batchOrderService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Processes one order. Retries that send the same {@code Idempotency-Key} get the
+     * original order back; reusing a key for another customer is rejected with 422.
+     */
     @PostMapping("/process")
-    public String processOrder(@RequestParam String customerName) {
-        return orderProcessingService.processOrder(customerName);
+    public String processOrder(@RequestParam String customerName,
+                               @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        try {
+            return orderProcessingService.processOrder(customerName, idempotencyKey);
+        } catch (IdempotencyStore.KeyReusedException e) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, e.getMessage());
+        } catch (IdempotencyStore.InvalidKeyException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    @PostMapping(value = "/batch", produces = MediaType.TEXT_PLAIN_VALUE)
+    public StreamingResponseBody processBatchOrders(@RequestParam String[] customers) {
+        return out -> {
+            Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+            batchOrderService.processBatch(customers, new SummaryWriter(writer));
+            writer.flush();
+        };
+    }
+
+    @PostMapping(value = "/batch", produces = NDJSON_VALUE)
+    public StreamingResponseBody streamBatchOrders(@RequestParam String[] customers) {
+        ObjectWriter lineWriter = objectMapper.writer();
+        return out -> {
+            Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+            batchOrderService.processBatch(customers, new NdjsonWriter(writer, lineWriter));
+            writer.flush();
+        };
+    }
+
+    /**
+     * Writes order summaries separated by "; ".
+     */
+    private static class SummaryWriter implements BatchOrderService.OrderResultWriter {
+        private final Writer writer;
+        private boolean first = true;
+
+        SummaryWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void write(OrderResult result) throws IOException {
+            if (!first) writer.write("; ");
+            first = false;
+            writer.write(result.getSummary());
+        }
+
+        @Override
+        public void chunkComplete() throws IOException {
+            writer.flush();
+        }
     }
 
-    @PostMapping("/batch")
-    public String processBatchOrders(@RequestParam String[] customers) {
-        StringBuilder result = new StringBuilder();
-        for (int i = 0; i < customers.length; i++) {
-            if (i > 0) result.append("; ");
-            result.append(orderProcessingService.processOrder(customers[i]));
+    /**
+     * Writes one JSON document per order, one per line.
+     */
+    private static class NdjsonWriter implements BatchOrderService.OrderResultWriter {
+        private final Writer writer;
+        private final ObjectWriter lineWriter;
+
+        NdjsonWriter(Writer writer, ObjectWriter lineWriter) {
+            this.writer = writer;
+            this.lineWriter = lineWriter;
+        }
+
+        @Override
+        public void write(OrderResult result) throws IOException {
+            writer.write(lineWriter.writeValueAsString(result));
+            writer.write('\n');
+        }
+
+        @Override
+        public void chunkComplete() throws IOException {
+            writer.flush();
         }
-        return result.toString();
     }
 }
@@ -1,20 +1,112 @@
 package com.interview.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interview.catalog.ProductStore;
 import com.interview.model.Product;
+import com.interview.service.ProductIngestService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
+import java.util.List;
 
 /**
- * Controller for product operations
+ * Controller for product operations, backed by the in-memory {@link ProductStore}.
  */
 @RestController
 @RequestMapping("/api/products")
 public class ProductController {
     
+    static final int MAX_RANGE_RESULTS = 1000;
+    
+    @Autowired
+    private ProductIngestService productIngestService;
+    
+    @Autowired
+    private ProductStore productStore;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
     @PostMapping
     public Product createProduct(@RequestBody Product product) {
-        return product;
+        String problem = ProductIngestService.validate(product);
+        if (problem != null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, problem);
+        }
+        return productStore.put(product);
+    }
+    
+    /**
+     * Products priced between {@code minPrice} and {@code maxPrice} inclusive, cheapest
+     * first, optionally filtered by {@code active}. At most {@code limit} are returned
+     * (capped at 1000).
+     */
+    @GetMapping
+    public List<Product> findProducts(@RequestParam(required = false) BigDecimal minPrice,
+                                      @RequestParam(required = false) BigDecimal maxPrice,
+                                      @RequestParam(required = false) Boolean active,
+                                      @RequestParam(defaultValue = "100") int limit) {
+        return productStore.findInRange(minPrice, maxPrice, active, Math.max(0, Math.min(limit, MAX_RANGE_RESULTS)));
+    }
+    
+    /**
+     * Ingests an NDJSON or JSON-array stream of products into the store. One acknowledgement
+     * line is written per batch as soon as the batch is stored, followed by a summary line:
+     * <pre>
+     * {"batch":1,"accepted":999,"rejected":1,"errors":[{"record":17,"message":"price is required"}]}
+     * {"done":true,"accepted":999,"rejected":1,"batches":1}
+     * </pre>
+     */
+    @PostMapping(value = "/bulk", consumes = {OrderController.NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public void ingestProducts(InputStream body, HttpServletResponse response) throws IOException {
+        response.setContentType(OrderController.NDJSON_VALUE);
+        JsonGenerator acks = objectMapper.getFactory().createGenerator(response.getOutputStream());
+        acks.setRootValueSeparator(null);
+        try {
+            ProductIngestService.IngestSummary summary = productIngestService.ingest(body, (batch, accepted, rejected) -> {
+                productStore.putAll(accepted);
+                acks.writeStartObject();
+                acks.writeNumberField("batch", batch);
+                acks.writeNumberField("accepted", accepted.size());
+                acks.writeNumberField("rejected", rejected.size());
+                if (!rejected.isEmpty()) {
+                    acks.writeArrayFieldStart("errors");
+                    for (ProductIngestService.IngestError error : rejected) {
+                        acks.writeStartObject();
+                        acks.writeNumberField("record", error.record());
+                        acks.writeStringField("message", error.message());
+                        acks.writeEndObject();
+                    }
+                    acks.writeEndArray();
+                }
+                acks.writeEndObject();
+                acks.writeRaw('\n');
+                acks.flush();
+            });
+            acks.writeStartObject();
+            acks.writeBooleanField("done", true);
+            acks.writeNumberField("accepted", summary.accepted());
+            acks.writeNumberField("rejected", summary.rejected());
+            acks.writeNumberField("batches", summary.batches());
+            acks.writeEndObject();
+        } catch (JsonProcessingException e) {
+            // The status line has already been sent; report malformed input in-band.
+            acks.writeStartObject();
+            acks.writeBooleanField("done", false);
+            acks.writeStringField("error", e.getOriginalMessage());
+            acks.writeEndObject();
+        }
+        acks.writeRaw('\n');
+        acks.close();
     }
     
     @GetMapping("/sample")
@@ -24,6 +116,10 @@ public class ProductController {
     
     @GetMapping("/{id}")
     public Product getProduct(@PathVariable String id) {
-        return new Product(id, "Test Product", new BigDecimal("19.99"), false);
+        Product product = productStore.get(id);
+        if (product == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No product " + id);
+        }
+        return product;
     }
 }
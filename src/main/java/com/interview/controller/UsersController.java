@@ -0,0 +1,88 @@
+package com.interview.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interview.config.ConditionalOnDatabase;
+import com.interview.model.User;
+import com.interview.search.UserSearchService;
+import com.interview.service.UserExportService;
+import com.interview.service.UserImportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Controller for user operations backed by the database: bulk import/export and search.
+ */
+@RestController
+@RequestMapping("/api/users")
+@ConditionalOnDatabase
+public class UsersController {
+    
+    @Autowired
+    private UserImportService userImportService;
+    
+    @Autowired
+    private UserExportService userExportService;
+    
+    @Autowired
+    private UserSearchService userSearchService;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    public record ImportResult(long imported, long elapsedMillis) {
+    }
+    
+    /**
+     * Imports an NDJSON or JSON-array stream of users. The body is read incrementally,
+     * so the request size does not bound memory use.
+     */
+    @PostMapping(value = "/bulk", consumes = {OrderController.NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ImportResult importUsers(InputStream body) throws IOException {
+        long start = System.nanoTime();
+        try (MappingIterator<User> users = objectMapper.readerFor(User.class).readValues(body)) {
+            long imported = userImportService.importUsers(users);
+            return new ImportResult(imported, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+    
+    /**
+     * Streams users as NDJSON while they are read from the database, optionally
+     * filtered by active status.
+     */
+    @GetMapping(value = "/export", produces = OrderController.NDJSON_VALUE)
+    public StreamingResponseBody exportUsers(@RequestParam(required = false) Boolean active) {
+        return out -> {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+            generator.setRootValueSeparator(null);
+            userExportService.export(active, user -> {
+                generator.writeObject(user);
+                generator.writeRaw('\n');
+            });
+            generator.close();
+        };
+    }
+    
+    /**
+     * Finds users whose email or username contains the given text (case-insensitive
+     * once the search index is ready).
+     */
+    @GetMapping("/search")
+    public List<User> searchUsers(@RequestParam(required = false) String email,
+                                  @RequestParam(required = false) String username) {
+        if (email != null) {
+            return userSearchService.findByEmailContaining(email);
+        }
+        if (username != null) {
+            return userSearchService.findByUsernameContaining(username);
+        }
+        return List.of();
+    }
+}
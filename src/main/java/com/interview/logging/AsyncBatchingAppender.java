@@ -0,0 +1,363 @@
+package com.interview.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.encoder.Encoder;
+import com.interview.util.MpscRingBuffer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Logback appender that hands events to a single writer thread through a bounded
+ * {@link MpscRingBuffer}, so logging threads never wait on disk or console I/O.
+ * <p>
+ * The writer drains up to {@code batchSize} events at a time, encodes them into one
+ * buffer and writes it with a single {@link FileChannel} call; without a {@code file} it
+ * writes to {@link System#out}. A {@link BufferEncoder} is copied straight from its reusable
+ * buffer, without a {@code byte[]} per event. With a {@code fileNamePattern} such as
+ * {@code logs/app.%d{yyyy-MM-dd}.log} the file is rolled daily, checked before every batch
+ * so a busy writer rolls on time, and archives older than {@code maxHistory} days are
+ * deleted.
+ * <p>
+ * When the buffer is full, events below {@code blockingLevel} follow the
+ * {@code overflowPolicy}: {@code DROP} discards and counts them, {@code BLOCK} waits for
+ * space. Events at or above {@code blockingLevel} always wait, so warnings and errors are
+ * never lost.
+ */
+public class AsyncBatchingAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
+    
+    public enum OverflowPolicy { DROP, BLOCK }
+    
+    private static final Pattern DATE_TOKEN = Pattern.compile("%d\\{([^}]+)}");
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    
+    private Encoder<ILoggingEvent> encoder;
+    private String file;
+    private String fileNamePattern;
+    private int maxHistory;
+    private int queueSize = 8192;
+    private int batchSize = 512;
+    private int bufferSize = 256 * 1024;
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+    private Level blockingLevel = Level.WARN;
+    
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private final AtomicLong writtenEvents = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    
+    private MpscRingBuffer<ILoggingEvent> ring;
+    private Thread writer;
+    private volatile boolean writerWaiting;
+    private volatile boolean running;
+    private Clock clock = Clock.systemDefaultZone();
+    
+    // Writer thread only
+    private WritableByteChannel channel;
+    private ByteBuffer buffer;
+    private DateTimeFormatter archiveDate;
+    private LocalDate period;
+    private long nextRollMillis = Long.MAX_VALUE;
+    
+    @Override
+    public void start() {
+        if (encoder == null) {
+            addError("No encoder set for appender " + name);
+            return;
+        }
+        if (fileNamePattern != null) {
+            if (file == null) {
+                addError("fileNamePattern requires file for appender " + name);
+                return;
+            }
+            Matcher token = DATE_TOKEN.matcher(fileNamePattern);
+            if (!token.find()) {
+                addError("fileNamePattern must contain %d{pattern}: " + fileNamePattern);
+                return;
+            }
+            archiveDate = DateTimeFormatter.ofPattern(token.group(1));
+        }
+        try {
+            openChannel();
+        } catch (IOException e) {
+            addError("Failed to open " + (file != null ? file : "stdout") + " for appender " + name, e);
+            return;
+        }
+        ring = new MpscRingBuffer<>(queueSize);
+        buffer = ByteBuffer.allocateDirect(bufferSize);
+        running = true;
+        writer = new Thread(this::runWriter, "log-writer-" + name);
+        writer.setDaemon(true);
+        writer.start();
+        super.start();
+    }
+    
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    @Override
+    protected void append(ILoggingEvent event) {
+        event.prepareForDeferredProcessing();
+        if (!ring.offer(event)) {
+            if (overflowPolicy == OverflowPolicy.DROP && !event.getLevel().isGreaterOrEqual(blockingLevel)) {
+                droppedEvents.incrementAndGet();
+                return;
+            }
+            while (!ring.offer(event)) {
+                if (!running) {
+                    droppedEvents.incrementAndGet();
+                    return;
+                }
+                LockSupport.parkNanos(BLOCK_PARK_NANOS);
+            }
+        }
+        if (writerWaiting) {
+            writerWaiting = false;
+            LockSupport.unpark(writer);
+        }
+    }
+    
+    public AsyncLogMetrics getMetrics() {
+        MpscRingBuffer<ILoggingEvent> current = ring;
+        return new AsyncLogMetrics(name,
+                current != null ? current.capacity() : queueSize,
+                current != null ? current.size() : 0,
+                droppedEvents.get(),
+                writtenEvents.get(),
+                batches.get());
+    }
+    
+    private void runWriter() {
+        while (running || !ring.isEmpty()) {
+            try {
+                rollIfDue();
+                int drained = ring.drain(this::encode, batchSize);
+                if (drained > 0) {
+                    flushBuffer();
+                    batches.incrementAndGet();
+                    writtenEvents.addAndGet(drained);
+                    continue;
+                }
+            } catch (IOException e) {
+                // Keep draining so blocked callers are released; the failed batch is lost
+                addError("Log writer for appender " + name + " failed", e);
+                buffer.clear();
+            }
+            writerWaiting = true;
+            if (ring.isEmpty() && running) {
+                LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(100));
+            }
+            writerWaiting = false;
+        }
+        try {
+            writeBytes(encoder.footerBytes());
+            flushBuffer();
+        } catch (IOException e) {
+            addError("Failed to write footer for appender " + name, e);
+        } finally {
+            closeChannel();
+        }
+    }
+    
+    private void encode(ILoggingEvent event) {
+        try {
+            if (encoder instanceof BufferEncoder<ILoggingEvent> buffered && buffered.isBufferNative()) {
+                LogBuffer encoded = buffered.encodeToBuffer(event);
+                writeBytes(encoded.array(), encoded.length());
+                return;
+            }
+            writeBytes(encoder.encode(event));
+        } catch (IOException e) {
+            addError("Failed to write log event for appender " + name, e);
+        }
+    }
+    
+    private void writeBytes(byte[] bytes) throws IOException {
+        if (bytes != null) {
+            writeBytes(bytes, bytes.length);
+        }
+    }
+    
+    private void writeBytes(byte[] bytes, int count) throws IOException {
+        int offset = 0;
+        while (offset < count) {
+            if (!buffer.hasRemaining()) {
+                flushBuffer();
+            }
+            int length = Math.min(buffer.remaining(), count - offset);
+            buffer.put(bytes, offset, length);
+            offset += length;
+        }
+    }
+    
+    private void flushBuffer() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+    
+    private void openChannel() throws IOException {
+        if (file == null) {
+            // System.out rather than the raw descriptor, so redirected output (e.g. by a test runner) is honoured
+            channel = Channels.newChannel(System.out);
+            return;
+        }
+        Path path = Path.of(file);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        period = Files.exists(path)
+                ? LocalDate.ofInstant(Files.getLastModifiedTime(path).toInstant(), clock.getZone())
+                : LocalDate.now(clock);
+        if (archiveDate != null) {
+            nextRollMillis = period.plusDays(1).atStartOfDay(clock.getZone()).toInstant().toEpochMilli();
+        }
+        boolean empty = !Files.exists(path) || Files.size(path) == 0;
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        if (empty) {
+            byte[] header = encoder.headerBytes();
+            if (header != null) {
+                channel.write(ByteBuffer.wrap(header));
+            }
+        }
+    }
+    
+    private void closeChannel() {
+        try {
+            if (channel instanceof FileChannel) {
+                channel.close();
+            }
+        } catch (IOException e) {
+            addError("Failed to close " + file, e);
+        }
+    }
+    
+    private void rollIfDue() throws IOException {
+        if (archiveDate == null || clock.millis() < nextRollMillis) {
+            return;
+        }
+        channel.close();
+        Path path = Path.of(file);
+        if (Files.exists(path) && Files.size(path) > 0) {
+            Path archive = Path.of(DATE_TOKEN.matcher(fileNamePattern)
+                    .replaceFirst(Matcher.quoteReplacement(period.format(archiveDate))));
+            Files.move(path, archive, StandardCopyOption.REPLACE_EXISTING);
+        }
+        openChannel();
+        deleteExpiredArchives();
+    }
+    
+    private void deleteExpiredArchives() throws IOException {
+        if (maxHistory <= 0) {
+            return;
+        }
+        Path archivePattern = Path.of(fileNamePattern);
+        Path directory = archivePattern.toAbsolutePath().getParent();
+        Matcher token = DATE_TOKEN.matcher(archivePattern.getFileName().toString());
+        if (!token.find()) {
+            return;
+        }
+        Pattern archiveName = Pattern.compile(Pattern.quote(token.replaceFirst("\u0000"))
+                .replace("\u0000", "\\E(.+)\\Q"));
+        LocalDate oldest = LocalDate.now(clock).minusDays(maxHistory);
+        List<Path> expired = new ArrayList<>();
+        try (DirectoryStream<Path> archives = Files.newDirectoryStream(directory)) {
+            for (Path archive : archives) {
+                Matcher name = archiveName.matcher(archive.getFileName().toString());
+                if (name.matches() && isBefore(name.group(1), oldest)) {
+                    expired.add(archive);
+                }
+            }
+        }
+        for (Path archive : expired) {
+            Files.deleteIfExists(archive);
+        }
+    }
+    
+    private boolean isBefore(String date, LocalDate oldest) {
+        try {
+            return LocalDate.parse(date, archiveDate).isBefore(oldest);
+        } catch (DateTimeParseException e) {
+            // Another file that happens to match the pattern, e.g. app.backup.log
+            return false;
+        }
+    }
+    
+    public void setEncoder(Encoder<ILoggingEvent> encoder) {
+        this.encoder = encoder;
+    }
+    
+    public void setFile(String file) {
+        this.file = file;
+    }
+    
+    public void setFileNamePattern(String fileNamePattern) {
+        this.fileNamePattern = fileNamePattern;
+    }
+    
+    public void setMaxHistory(int maxHistory) {
+        this.maxHistory = maxHistory;
+    }
+    
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+    
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+    
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+    
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
+    
+    public void setBlockingLevel(String blockingLevel) {
+        this.blockingLevel = Level.toLevel(blockingLevel, Level.WARN);
+    }
+    
+    /**
+     * Time source for rolling; set before {@link #start()}.
+     */
+    void setClock(Clock clock) {
+        this.clock = clock;
+    }
+}
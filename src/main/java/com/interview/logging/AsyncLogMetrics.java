@@ -0,0 +1,12 @@
+package com.interview.logging;
+
+/**
+ * Point-in-time counters for one {@link AsyncBatchingAppender}.
+ */
+public record AsyncLogMetrics(String appender,
+                              int capacity,
+                              int queueDepth,
+                              long droppedEvents,
+                              long writtenEvents,
+                              long batches) {
+}
@@ -0,0 +1,24 @@
+package com.interview.logging;
+
+import ch.qos.logback.core.encoder.Encoder;
+
+/**
+ * Encoder that can write an event into a reusable buffer instead of allocating a new
+ * {@code byte[]}. {@link AsyncBatchingAppender} copies the buffer straight into its
+ * output buffer when the configured encoder supports this.
+ */
+public interface BufferEncoder<E> extends Encoder<E> {
+    
+    /**
+     * Encodes {@code event} into a buffer owned by the calling thread. The contents are
+     * valid until the same thread encodes again.
+     */
+    LogBuffer encodeToBuffer(E event);
+    
+    /**
+     * Whether {@link #encodeToBuffer} avoids a copy; delegating encoders may say no.
+     */
+    default boolean isBufferNative() {
+        return true;
+    }
+}
@@ -0,0 +1,193 @@
+package com.interview.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.StackTraceElementProxy;
+import ch.qos.logback.core.encoder.EncoderBase;
+import com.interview.util.RequestContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+/**
+ * Encodes each event as one line of JSON:
+ * <pre>
+ * {"timestamp":"2024-01-01T12:00:00.000Z","level":"INFO","logger":"...","thread":"...",
+ *  "message":"...","user_id":"...","session_id":"...","mdc":{...},
+ *  "exception":{"class":"...","message":"...","stack_trace":"..."}}
+ * </pre>
+ * {@code user_id} and {@code session_id} come from the MDC entries that
+ * {@link RequestContextHolder} maintains, so they survive the hop to an asynchronous
+ * writer thread. Fields are written as UTF-8 straight into a per-thread {@link LogBuffer};
+ * absent fields are omitted.
+ */
+public class JsonLogEncoder extends EncoderBase<ILoggingEvent> implements BufferEncoder<ILoggingEvent> {
+    
+    private static final byte[] TIMESTAMP = ascii("{\"timestamp\":\"");
+    private static final byte[] LEVEL = ascii("Z\",\"level\":\"");
+    private static final byte[] LOGGER = ascii("\",\"logger\":");
+    private static final byte[] THREAD = ascii(",\"thread\":");
+    private static final byte[] MESSAGE = ascii(",\"message\":");
+    private static final byte[] USER_ID = ascii(",\"user_id\":");
+    private static final byte[] SESSION_ID = ascii(",\"session_id\":");
+    private static final byte[] MDC = ascii(",\"mdc\":{");
+    private static final byte[] EXCEPTION = ascii(",\"exception\":{\"class\":");
+    private static final byte[] EXCEPTION_MESSAGE = ascii(",\"message\":");
+    private static final byte[] STACK_TRACE = ascii(",\"stack_trace\":");
+    private static final byte[] END = ascii("}\n");
+    private static final byte[] ERROR = ascii("ERROR");
+    private static final byte[] WARN = ascii("WARN");
+    private static final byte[] INFO = ascii("INFO");
+    private static final byte[] DEBUG = ascii("DEBUG");
+    private static final byte[] TRACE = ascii("TRACE");
+    private static final DateTimeFormatter SECOND = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.");
+    
+    private final ThreadLocal<Scratch> scratch = ThreadLocal.withInitial(Scratch::new);
+    
+    @Override
+    public byte[] headerBytes() {
+        return null;
+    }
+    
+    @Override
+    public byte[] encode(ILoggingEvent event) {
+        return encodeToBuffer(event).toByteArray();
+    }
+    
+    @Override
+    public LogBuffer encodeToBuffer(ILoggingEvent event) {
+        Scratch local = scratch.get();
+        LogBuffer out = local.buffer;
+        out.reset();
+    
+        out.append(TIMESTAMP);
+        local.appendTimestamp(event.getTimeStamp());
+        out.append(LEVEL);
+        out.append(levelBytes(event.getLevel()));
+        out.append(LOGGER);
+        out.appendJsonString(event.getLoggerName());
+        out.append(THREAD);
+        out.appendJsonString(event.getThreadName());
+        out.append(MESSAGE);
+        out.appendJsonString(event.getFormattedMessage());
+    
+        Map<String, String> mdc = event.getMDCPropertyMap();
+        if (mdc != null && !mdc.isEmpty()) {
+            appendField(out, USER_ID, mdc.get(RequestContextHolder.MDC_USER_ID));
+            appendField(out, SESSION_ID, mdc.get(RequestContextHolder.MDC_SESSION_ID));
+            appendMdc(out, mdc);
+        }
+        IThrowableProxy throwable = event.getThrowableProxy();
+        if (throwable != null) {
+            appendException(local, throwable);
+        }
+        out.append(END);
+        return out;
+    }
+    
+    @Override
+    public byte[] footerBytes() {
+        return null;
+    }
+    
+    private static void appendField(LogBuffer out, byte[] name, String value) {
+        if (value != null) {
+            out.append(name);
+            out.appendJsonString(value);
+        }
+    }
+    
+    private static void appendMdc(LogBuffer out, Map<String, String> mdc) {
+        boolean open = false;
+        for (Map.Entry<String, String> entry : mdc.entrySet()) {
+            String key = entry.getKey();
+            if (key.equals(RequestContextHolder.MDC_USER_ID) || key.equals(RequestContextHolder.MDC_SESSION_ID)
+                    || entry.getValue() == null) {
+                continue;
+            }
+            if (open) {
+                out.append((byte) ',');
+            } else {
+                out.append(MDC);
+                open = true;
+            }
+            out.appendJsonString(key);
+            out.append((byte) ':');
+            out.appendJsonString(entry.getValue());
+        }
+        if (open) {
+            out.append((byte) '}');
+        }
+    }
+    
+    private static void appendException(Scratch local, IThrowableProxy throwable) {
+        LogBuffer out = local.buffer;
+        out.append(EXCEPTION);
+        out.appendJsonString(throwable.getClassName());
+        appendField(out, EXCEPTION_MESSAGE, throwable.getMessage());
+    
+        StringBuilder trace = local.trace;
+        trace.setLength(0);
+        for (IThrowableProxy current = throwable; current != null; current = current.getCause()) {
+            if (current != throwable) {
+                trace.append("Caused by: ").append(current.getClassName());
+                if (current.getMessage() != null) {
+                    trace.append(": ").append(current.getMessage());
+                }
+                trace.append('\n');
+            }
+            StackTraceElementProxy[] frames = current.getStackTraceElementProxyArray();
+            int shown = frames.length - current.getCommonFrames();
+            for (int i = 0; i < shown; i++) {
+                trace.append('\t').append(frames[i].getSTEAsString()).append('\n');
+            }
+            if (current.getCommonFrames() > 0) {
+                trace.append("\t... ").append(current.getCommonFrames()).append(" common frames omitted\n");
+            }
+        }
+        out.append(STACK_TRACE);
+        out.appendJsonString(trace);
+        out.append((byte) '}');
+    }
+    
+    private static byte[] levelBytes(Level level) {
+        return switch (level.levelInt) {
+            case Level.ERROR_INT -> ERROR;
+            case Level.WARN_INT -> WARN;
+            case Level.INFO_INT -> INFO;
+            case Level.DEBUG_INT -> DEBUG;
+            case Level.TRACE_INT -> TRACE;
+            default -> ascii(level.levelStr);
+        };
+    }
+    
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+    
+    /**
+     * Per-thread state: the output buffer, a reusable stack trace builder and the
+     * formatted timestamp prefix of the last second seen.
+     */
+    private static final class Scratch {
+        private final LogBuffer buffer = new LogBuffer(1024);
+        private final StringBuilder trace = new StringBuilder(256);
+        private long second = Long.MIN_VALUE;
+        private byte[] secondPrefix;
+    
+        void appendTimestamp(long epochMillis) {
+            long epochSecond = Math.floorDiv(epochMillis, 1000);
+            if (epochSecond != second) {
+                second = epochSecond;
+                // yyyy-MM-ddTHH:mm:ss. once per second, then only the millis change
+                secondPrefix = ascii(SECOND.format(LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC)));
+            }
+            buffer.append(secondPrefix);
+            buffer.appendPadded(Math.floorMod(epochMillis, 1000), 3);
+        }
+    }
+}
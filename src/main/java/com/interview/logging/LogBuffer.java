@@ -0,0 +1,146 @@
+package com.interview.logging;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Growable byte buffer for encoding log events as UTF-8 without building intermediate
+ * Strings. Not thread-safe; encoders keep one per thread and reset it per event.
+ */
+public final class LogBuffer {
+    
+    // A buffer grown past this by one huge event is dropped on the next reset
+    private static final int RETAIN_LIMIT = 64 * 1024;
+    
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    
+    private final int initialCapacity;
+    private byte[] bytes;
+    private int length;
+    
+    public LogBuffer(int initialCapacity) {
+        this.initialCapacity = initialCapacity;
+        this.bytes = new byte[initialCapacity];
+    }
+    
+    public byte[] array() {
+        return bytes;
+    }
+    
+    public int length() {
+        return length;
+    }
+    
+    public byte[] toByteArray() {
+        return Arrays.copyOf(bytes, length);
+    }
+    
+    void reset() {
+        if (bytes.length > RETAIN_LIMIT) {
+            bytes = new byte[initialCapacity];
+        }
+        length = 0;
+    }
+    
+    void append(byte b) {
+        ensureCapacity(1);
+        bytes[length++] = b;
+    }
+    
+    void append(byte[] source) {
+        ensureCapacity(source.length);
+        System.arraycopy(source, 0, bytes, length, source.length);
+        length += source.length;
+    }
+    
+    /**
+     * Appends a non-negative number padded with zeros to {@code digits}.
+     */
+    void appendPadded(long value, int digits) {
+        ensureCapacity(digits);
+        for (int i = digits - 1; i >= 0; i--) {
+            bytes[length + i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        length += digits;
+    }
+    
+    /**
+     * Appends {@code value} as a quoted, escaped JSON string.
+     */
+    @SuppressWarnings("deprecation")
+    void appendJsonString(CharSequence value) {
+        int count = value.length();
+        ensureCapacity(count + 2);
+        bytes[length++] = '"';
+        int plain = 0;
+        if (value instanceof String string) {
+            while (plain < count && isPlain(string.charAt(plain))) {
+                plain++;
+            }
+            // Bulk copy of the leading ASCII run; only the low byte of each char is kept
+            string.getBytes(0, plain, bytes, length);
+            length += plain;
+        }
+        for (int i = plain; i < count; i++) {
+            char c = value.charAt(i);
+            if (isPlain(c)) {
+                ensureCapacity(2);
+                bytes[length++] = (byte) c;
+            } else if (c < 0x80) {
+                appendEscaped(c);
+            } else if (c < 0x800) {
+                ensureCapacity(3);
+                bytes[length++] = (byte) (0xC0 | c >> 6);
+                bytes[length++] = (byte) (0x80 | c & 0x3F);
+            } else if (Character.isHighSurrogate(c) && i + 1 < count
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                ensureCapacity(5);
+                bytes[length++] = (byte) (0xF0 | codePoint >> 18);
+                bytes[length++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                bytes[length++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                bytes[length++] = (byte) (0x80 | codePoint & 0x3F);
+            } else if (Character.isSurrogate(c)) {
+                ensureCapacity(2);
+                bytes[length++] = '?';
+            } else {
+                ensureCapacity(4);
+                bytes[length++] = (byte) (0xE0 | c >> 12);
+                bytes[length++] = (byte) (0x80 | c >> 6 & 0x3F);
+                bytes[length++] = (byte) (0x80 | c & 0x3F);
+            }
+        }
+        ensureCapacity(1);
+        bytes[length++] = '"';
+    }
+    
+    private static boolean isPlain(char c) {
+        return c >= 0x20 && c < 0x80 && c != '"' && c != '\\';
+    }
+    
+    private void appendEscaped(char c) {
+        ensureCapacity(7);
+        bytes[length++] = '\\';
+        switch (c) {
+            case '"' -> bytes[length++] = '"';
+            case '\\' -> bytes[length++] = '\\';
+            case '\n' -> bytes[length++] = 'n';
+            case '\r' -> bytes[length++] = 'r';
+            case '\t' -> bytes[length++] = 't';
+            default -> {
+                bytes[length++] = 'u';
+                bytes[length++] = '0';
+                bytes[length++] = '0';
+                bytes[length++] = HEX[c >> 4];
+                bytes[length++] = HEX[c & 0xF];
+            }
+        }
+    }
+    
+    private void ensureCapacity(int additional) {
+        if (length + additional > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + additional));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.interview.logging;
+
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.encoder.Encoder;
+import ch.qos.logback.core.encoder.EncoderBase;
+
+import java.util.Locale;
+
+/**
+ * Encoder whose output format is chosen per appender in configuration:
+ * {@code <format>pattern</format>} uses {@code <pattern>} through logback's
+ * {@link PatternLayoutEncoder}, {@code <format>json</format>} uses {@link JsonLogEncoder}.
+ * Encoding to a buffer goes straight to the JSON encoder; the pattern format copies its
+ * {@code byte[]} into a per-thread buffer.
+ */
+public class LogFormatEncoder extends EncoderBase<ILoggingEvent> implements BufferEncoder<ILoggingEvent> {
+    
+    public enum Format { PATTERN, JSON }
+    
+    private Format format = Format.PATTERN;
+    private String pattern;
+    private Encoder<ILoggingEvent> delegate;
+    private final ThreadLocal<LogBuffer> copies = ThreadLocal.withInitial(() -> new LogBuffer(1024));
+    
+    @Override
+    public void start() {
+        if (format == Format.JSON) {
+            delegate = new JsonLogEncoder();
+        } else {
+            if (pattern == null) {
+                addError("No pattern set for pattern format");
+                return;
+            }
+            PatternLayoutEncoder patternEncoder = new PatternLayoutEncoder();
+            patternEncoder.setPattern(pattern);
+            delegate = patternEncoder;
+        }
+        delegate.setContext(getContext());
+        delegate.start();
+        super.start();
+    }
+    
+    @Override
+    public void stop() {
+        if (delegate != null) {
+            delegate.stop();
+        }
+        super.stop();
+    }
+    
+    @Override
+    public byte[] headerBytes() {
+        return delegate.headerBytes();
+    }
+    
+    @Override
+    public byte[] encode(ILoggingEvent event) {
+        return delegate.encode(event);
+    }
+    
+    @Override
+    public LogBuffer encodeToBuffer(ILoggingEvent event) {
+        if (delegate instanceof BufferEncoder<ILoggingEvent> buffered) {
+            return buffered.encodeToBuffer(event);
+        }
+        LogBuffer copy = copies.get();
+        copy.reset();
+        copy.append(delegate.encode(event));
+        return copy;
+    }
+    
+    @Override
+    public boolean isBufferNative() {
+        return delegate instanceof BufferEncoder<ILoggingEvent> buffered && buffered.isBufferNative();
+    }
+    
+    @Override
+    public byte[] footerBytes() {
+        return delegate.footerBytes();
+    }
+    
+    public void setFormat(String format) {
+        this.format = Format.valueOf(format.trim().toUpperCase(Locale.ROOT));
+    }
+    
+    public void setPattern(String pattern) {
+        this.pattern = pattern;
+    }
+}
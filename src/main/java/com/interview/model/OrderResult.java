@@ -0,0 +1,43 @@
+package com.interview.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Outcome of processing a single order, as streamed by the batch endpoint.
+ * 
+ * Expected JSON format:
+ * {
+ *   "order_number": 1,
+ *   "customer_name": "Alice",
+ *   "summary": "Order #1 for customer: Alice"
+ * }
+ */
+public class OrderResult {
+    
+    @JsonProperty("order_number")
+    private final long orderNumber;
+    
+    @JsonProperty("customer_name")
+    private final String customerName;
+    
+    @JsonProperty("summary")
+    private final String summary;
+    
+    public OrderResult(long orderNumber, String customerName, String summary) {
+        this.orderNumber = orderNumber;
+        this.customerName = customerName;
+        this.summary = summary;
+    }
+    
+    public long getOrderNumber() {
+        return orderNumber;
+    }
+    
+    public String getCustomerName() {
+        return customerName;
+    }
+    
+    public String getSummary() {
+        return summary;
+    }
+}
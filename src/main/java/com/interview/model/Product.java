@@ -1,6 +1,7 @@
 package com.interview.model;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import java.math.BigDecimal;
 
 /**
@@ -14,6 +15,7 @@ import java.math.BigDecimal;
  *   "is_active": true
  * }
  */
+@JsonPropertyOrder({"product_id", "product_name", "price", "is_active"})
 public class Product {
     
     @JsonProperty("product_id")
@@ -27,7 +29,8 @@ public class Product {
     @JsonProperty("is_active")
     private Boolean active;
     
-    // public Product() {}
+    public Product() {}
+    
     public Product(String productId, String productName, BigDecimal price, Boolean active) {
         this.productId = productId;
         this.productName = productName;
@@ -1,18 +1,31 @@
 package com.interview.model;
 
+import com.interview.repository.ActiveUserCountListener;
+import com.interview.search.UserSearchIndexListener;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
 /**
- * User entity for database operations
+ * User entity for database operations.
+ * Cached in the second-level cache region {@code users}, see {@code SecondLevelCacheConfig}.
  */
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
+@EntityListeners({UserSearchIndexListener.class, ActiveUserCountListener.class})
 public class User {
     
+    /**
+     * Pooled sequence IDs (50 per round-trip) instead of IDENTITY, which would stop
+     * Hibernate from batching inserts. On MySQL the sequence is emulated with a table.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false, unique = true)
@@ -30,6 +43,10 @@ public class User {
     @Column(name = "is_active")
     private Boolean isActive = true;
     
+    // isActive as last loaded from or written to the database
+    @Transient
+    private Boolean persistedActive;
+    
     // No-args constructor
     public User() {}
     
@@ -89,4 +106,16 @@ public class User {
     public void setIsActive(Boolean isActive) {
         this.isActive = isActive;
     }
+    
+    public Boolean wasPersistedActive() {
+        return persistedActive;
+    }
+    
+    // Runs after the entity listeners, so they still see the previous value
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    void rememberPersistedActive() {
+        persistedActive = isActive;
+    }
 }
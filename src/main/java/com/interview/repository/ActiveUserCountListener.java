@@ -0,0 +1,52 @@
+package com.interview.repository;
+
+import com.interview.model.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * JPA entity listener that reports changes in the number of active users to
+ * {@link ActiveUserCounterImpl}. Compares against the {@code isActive} value the entity
+ * was loaded or last written with, so only real flips are counted.
+ */
+public class ActiveUserCountListener {
+    
+    @Autowired
+    private ObjectProvider<ActiveUserCounterImpl> activeUserCounter;
+    
+    @PostPersist
+    public void onPersist(User user) {
+        if (isActive(user.getIsActive())) {
+            record(1);
+        }
+    }
+    
+    @PostUpdate
+    public void onUpdate(User user) {
+        boolean before = isActive(user.wasPersistedActive());
+        boolean after = isActive(user.getIsActive());
+        if (before != after) {
+            record(after ? 1 : -1);
+        }
+    }
+    
+    @PostRemove
+    public void onRemove(User user) {
+        if (isActive(user.wasPersistedActive())) {
+            record(-1);
+        }
+    }
+    
+    private void record(long delta) {
+        if (activeUserCounter != null) {
+            activeUserCounter.ifAvailable(counter -> counter.record(delta));
+        }
+    }
+    
+    private static boolean isActive(Boolean active) {
+        return Boolean.TRUE.equals(active);
+    }
+}
@@ -0,0 +1,10 @@
+package com.interview.repository;
+
+/**
+ * Repository fragment that answers {@link #countActiveUsers()} from a maintained counter
+ * instead of a {@code COUNT(*)} query. See {@link ActiveUserCounterImpl}.
+ */
+public interface ActiveUserCounter {
+    
+    long countActiveUsers();
+}
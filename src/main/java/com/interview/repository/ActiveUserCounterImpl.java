@@ -0,0 +1,139 @@
+package com.interview.repository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Denormalized count of active users.
+ * <p>
+ * {@link ActiveUserCountListener} reports each insert, delete and {@code isActive} flip as
+ * a delta. Deltas are held per transaction and applied to the shared count on commit;
+ * {@link #countActiveUsers()} adds the caller's own uncommitted delta, so it answers the
+ * same as the {@code COUNT} query would inside that transaction.
+ * <p>
+ * The count is loaded once at startup. Drift from writes that bypass the entity lifecycle
+ * (bulk JPQL, native SQL), or from two transactions flipping the same unversioned row, is
+ * corrected by {@link #reconcile()}. It runs every
+ * {@code users.active-count.reconcile-interval} and only replaces the count when no
+ * tracked transaction was in flight while it queried.
+ */
+public class ActiveUserCounterImpl implements ActiveUserCounter {
+    private static final Logger log = LoggerFactory.getLogger(ActiveUserCounterImpl.class);
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    private final AtomicInteger inFlight = new AtomicInteger();
+    
+    private long committed;
+    private long version;
+    
+    @PostConstruct
+    void initialize() {
+        long actual = queryActiveUsers();
+        synchronized (this) {
+            committed = actual;
+        }
+    }
+    
+    @Override
+    public long countActiveUsers() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            // Like the COUNT query's auto-flush: run pending inserts and deletes so
+            // their listener callbacks have fired
+            entityManager.flush();
+        }
+        PendingDelta pending = (PendingDelta) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return getCommittedCount() + pending.delta;
+        }
+        return getCommittedCount();
+    }
+    
+    /**
+     * Compares the maintained count with the database and corrects it. Returns the drift
+     * that was corrected, or {@code null} if concurrent writes made the comparison unsafe
+     * and it should be retried later.
+     */
+    @Scheduled(initialDelayString = "${users.active-count.reconcile-interval:PT5M}",
+               fixedDelayString = "${users.active-count.reconcile-interval:PT5M}")
+    public Long reconcile() {
+        if (inFlight.get() != 0) {
+            return null;
+        }
+        long versionBefore;
+        synchronized (this) {
+            versionBefore = version;
+        }
+        long actual = queryActiveUsers();
+        synchronized (this) {
+            if (inFlight.get() != 0 || version != versionBefore) {
+                return null;
+            }
+            long drift = actual - committed;
+            committed = actual;
+            if (drift != 0) {
+                log.info("Active user count drifted by {}; reset to {}", drift, actual);
+            }
+            return drift;
+        }
+    }
+    
+    private long queryActiveUsers() {
+        return entityManager
+                .createQuery("SELECT COUNT(u) FROM User u WHERE u.isActive = true", Long.class)
+                .getSingleResult();
+    }
+    
+    synchronized long getCommittedCount() {
+        return committed;
+    }
+    
+    /**
+     * Records a change in the number of active users made by the current transaction.
+     */
+    void record(long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(delta);
+            return;
+        }
+        PendingDelta pending = (PendingDelta) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingDelta();
+            inFlight.incrementAndGet();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.delta += delta;
+    }
+    
+    private synchronized void apply(long delta) {
+        committed += delta;
+        version++;
+    }
+    
+    private class PendingDelta implements TransactionSynchronization {
+        private long delta;
+        
+        @Override
+        public void afterCommit() {
+            if (delta != 0) {
+                apply(delta);
+            }
+        }
+        
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ActiveUserCounterImpl.this);
+            inFlight.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.interview.repository;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.interview.config.ConditionalOnDatabase;
+import com.interview.model.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Read-through cache in front of {@link UserRepository#findByUsername}.
+ * <p>
+ * Entries are bounded by size (Caffeine's W-TinyLFU policy) and by age. Misses are cached
+ * too, with a shorter TTL, so repeated lookups of unknown usernames do not reach the
+ * database. Writes made through this class invalidate affected entries, including the
+ * old username when a user is renamed; writes made directly on {@link UserRepository}
+ * are only picked up once the entry expires. Inside a transaction, entries are invalidated
+ * again after it commits, so a concurrent lookup that read the pre-commit state in between
+ * does not stay cached.
+ * <p>
+ * Cached users are detached entities shared between callers and must not be modified
+ * in place; load, change and {@link #save} a user instead.
+ */
+@Component
+@ConditionalOnDatabase
+public class CachedUserRepository {
+    
+    private final UserRepository userRepository;
+    private final LoadingCache<String, Optional<User>> byUsername;
+    private final ConcurrentMap<Long, String> usernameById = new ConcurrentHashMap<>();
+    
+    public CachedUserRepository(UserRepository userRepository,
+                                @Value("${users.cache.maximum-size:10000}") long maximumSize,
+                                @Value("${users.cache.ttl:PT5M}") Duration ttl,
+                                @Value("${users.cache.negative-ttl:PT30S}") Duration negativeTtl) {
+        this.userRepository = userRepository;
+        this.byUsername = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new HitOrMissExpiry(ttl, negativeTtl))
+                .evictionListener(this::onEviction)
+                .recordStats()
+                .build(this::load);
+    }
+    
+    public Optional<User> findByUsername(String username) {
+        return byUsername.get(username);
+    }
+    
+    public User save(User user) {
+        User saved = userRepository.save(user);
+        invalidate(saved);
+        return saved;
+    }
+    
+    public <S extends User> Iterable<S> saveAll(Iterable<S> users) {
+        Iterable<S> saved = userRepository.saveAll(users);
+        List<S> written = new ArrayList<>();
+        saved.forEach(written::add);
+        invalidate(written);
+        return saved;
+    }
+    
+    public void delete(User user) {
+        userRepository.delete(user);
+        invalidate(user);
+    }
+    
+    public void deleteById(Long id) {
+        userRepository.deleteById(id);
+        String username = usernameById.remove(id);
+        if (username != null) {
+            evict(List.of(username));
+        }
+    }
+    
+    /**
+     * Drops every cached entry, e.g. after bulk changes made outside this class.
+     */
+    public void invalidateAll() {
+        byUsername.invalidateAll();
+        usernameById.clear();
+    }
+    
+    /**
+     * Hit, miss, load and eviction counters since startup.
+     */
+    public CacheStats getStats() {
+        return byUsername.stats();
+    }
+    
+    public long getEstimatedSize() {
+        return byUsername.estimatedSize();
+    }
+    
+    /**
+     * Runs pending eviction work now instead of on Caffeine's background executor.
+     */
+    void cleanUp() {
+        byUsername.cleanUp();
+    }
+    
+    private Optional<User> load(String username) {
+        Optional<User> user = userRepository.findByUsername(username);
+        user.ifPresent(found -> usernameById.put(found.getId(), username));
+        return user;
+    }
+    
+    /**
+     * Drops cached entries for {@code user}, e.g. after it was written elsewhere.
+     */
+    public void invalidate(User user) {
+        List<String> usernames = new ArrayList<>(2);
+        collectUsernames(user, usernames);
+        evict(usernames);
+    }
+    
+    /**
+     * Drops cached entries for every user in {@code users}, with one after-commit callback
+     * for all of them.
+     */
+    public void invalidate(Collection<? extends User> users) {
+        List<String> usernames = new ArrayList<>(users.size());
+        for (User user : users) {
+            collectUsernames(user, usernames);
+        }
+        evict(usernames);
+    }
+    
+    private void collectUsernames(User user, List<String> usernames) {
+        if (user.getId() != null) {
+            String previous = usernameById.remove(user.getId());
+            if (previous != null) {
+                usernames.add(previous);
+            }
+        }
+        if (user.getUsername() != null) {
+            usernames.add(user.getUsername());
+        }
+    }
+    
+    // Evicts now for reads in this transaction, and again once other transactions can see the write
+    private void evict(List<String> usernames) {
+        if (usernames.isEmpty()) {
+            return;
+        }
+        byUsername.invalidateAll(usernames);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    byUsername.invalidateAll(usernames);
+                }
+            });
+        }
+    }
+    
+    private void onEviction(String username, Optional<User> user, RemovalCause cause) {
+        if (user != null) {
+            user.ifPresent(evicted -> usernameById.remove(evicted.getId(), username));
+        }
+    }
+    
+    /**
+     * Keeps found users for {@code ttl} and misses for the shorter {@code negativeTtl}.
+     */
+    private static final class HitOrMissExpiry implements Expiry<String, Optional<User>> {
+        private final long ttlNanos;
+        private final long negativeTtlNanos;
+        
+        HitOrMissExpiry(Duration ttl, Duration negativeTtl) {
+            this.ttlNanos = ttl.toNanos();
+            this.negativeTtlNanos = negativeTtl.toNanos();
+        }
+        
+        @Override
+        public long expireAfterCreate(String key, Optional<User> value, long currentTime) {
+            return value.isPresent() ? ttlNanos : negativeTtlNanos;
+        }
+        
+        @Override
+        public long expireAfterUpdate(String key, Optional<User> value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+        
+        @Override
+        public long expireAfterRead(String key, Optional<User> value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
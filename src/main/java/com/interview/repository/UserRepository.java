@@ -1,28 +1,86 @@
 package com.interview.repository;
 
 import com.interview.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository for User entity operations.
+ * <p>
+ * The {@code ...Page...} methods use keyset (seek) pagination: pass the sort key of the
+ * last row of the previous page instead of an offset, so every page costs the same no
+ * matter how deep it is. The {@code stream...} methods must be consumed inside a
+ * transaction and closed; detach entities as they are processed to keep the persistence
+ * context from growing. {@link #countActiveUsers()} is served from a maintained counter,
+ * see {@link ActiveUserCounterImpl}.
+ * <p>
+ * {@link #findByActiveStatus} results are kept in the query cache until {@code users}
+ * changes; entities themselves come from the second-level cache.
+ * <p>
+ * Query methods run in read-only transactions, which skip dirty checking and are routed
+ * to the read replica when one is configured. Inherited write methods keep their own
+ * read-write transactions.
  */
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+@Transactional(readOnly = true)
+public interface UserRepository extends JpaRepository<User, Long>, ActiveUserCounter {
+    
+    String STREAM_FETCH_SIZE = "500";
     
     Optional<User> findByUsername(String username);
     
     List<User> findByEmailContaining(String emailPart);
     
+    List<User> findByUsernameContaining(String usernamePart);
+    
+    List<User> findByEmailContainingIgnoreCaseOrderByIdAsc(String emailPart);
+    
+    List<User> findByUsernameContainingIgnoreCaseOrderByIdAsc(String usernamePart);
+    
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "users-queries")
+    })
     @Query("SELECT u FROM User u WHERE u.isActive = :active ORDER BY u.createdAt DESC")
     List<User> findByActiveStatus(@Param("active") Boolean active);
     
-    @Query("SELECT COUNT(u) FROM User u WHERE u.isActive = true")
-    long countActiveUsers();
+    @Query("SELECT u FROM User u WHERE u.isActive = :active ORDER BY u.createdAt DESC, u.id DESC")
+    List<User> findActivePage(@Param("active") Boolean active, Limit limit);
+    
+    @Query("SELECT u FROM User u WHERE u.isActive = :active " +
+           "AND (u.createdAt < :createdAt OR (u.createdAt = :createdAt AND u.id < :id)) " +
+           "ORDER BY u.createdAt DESC, u.id DESC")
+    List<User> findActivePageAfter(@Param("active") Boolean active,
+                                   @Param("createdAt") LocalDateTime createdAt,
+                                   @Param("id") Long id,
+                                   Limit limit);
+    
+    List<User> findByEmailContainingAndIdGreaterThanOrderByIdAsc(String emailPart, Long id, Limit limit);
+    
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT u FROM User u WHERE u.isActive = :active ORDER BY u.createdAt DESC, u.id DESC")
+    Stream<User> streamByActiveStatus(@Param("active") Boolean active);
+    
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT u FROM User u ORDER BY u.id")
+    Stream<User> streamAll();
 }
@@ -0,0 +1,153 @@
+package com.interview.search;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory trigram inverted index from lower-cased text to document ids.
+ * <p>
+ * Every three-character window of a document's text maps to a sorted, duplicate-free
+ * list of ids. A containment query intersects the lists of the query's trigrams, which
+ * yields every id whose text may contain the query. Results are candidates only: two
+ * trigrams can match in different places, and entries are never removed when a document
+ * changes or is deleted, so callers must verify candidates against the real text.
+ * {@link #clear()} and a rebuild drop stale entries.
+ */
+public class TrigramIndex {
+    
+    public static final int GRAM = 3;
+    
+    private final Map<Long, Postings> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    /**
+     * Indexes {@code text} for document {@code id}. Texts shorter than a trigram are not indexed.
+     */
+    public void add(long id, String text) {
+        if (text == null || text.length() < GRAM) {
+            return;
+        }
+        String normalized = normalize(text);
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i + GRAM <= normalized.length(); i++) {
+                postings.computeIfAbsent(trigram(normalized, i), key -> new Postings()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Returns the sorted ids that may contain {@code query}, or {@code null} when the query
+     * is too short to use the index.
+     */
+    public long[] candidates(String query) {
+        if (query == null || query.length() < GRAM) {
+            return null;
+        }
+        String normalized = normalize(query);
+        lock.readLock().lock();
+        try {
+            Postings[] lists = new Postings[normalized.length() - GRAM + 1];
+            for (int i = 0; i < lists.length; i++) {
+                Postings list = postings.get(trigram(normalized, i));
+                if (list == null) {
+                    return new long[0];
+                }
+                lists[i] = list;
+            }
+            Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+            long[] result = Arrays.copyOf(lists[0].ids, lists[0].size);
+            int size = result.length;
+            for (int i = 1; i < lists.length && size > 0; i++) {
+                size = intersect(result, size, lists[i]);
+            }
+            return Arrays.copyOf(result, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public int getTrigramCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Keeps the ids in {@code result[0, size)} that also appear in {@code other},
+     * compacting them to the front, and returns the new size.
+     */
+    private static int intersect(long[] result, int size, Postings other) {
+        int kept = 0;
+        int j = 0;
+        for (int i = 0; i < size && j < other.size; i++) {
+            long id = result[i];
+            while (j < other.size && other.ids[j] < id) {
+                j++;
+            }
+            if (j < other.size && other.ids[j] == id) {
+                result[kept++] = id;
+            }
+        }
+        return kept;
+    }
+    
+    static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+    
+    static long trigram(String text, int offset) {
+        return ((long) text.charAt(offset) << 32) | ((long) text.charAt(offset + 1) << 16) | text.charAt(offset + 2);
+    }
+    
+    /**
+     * Sorted, duplicate-free growable list of ids. Ids usually arrive in ascending order
+     * (sequence-generated), which makes {@link #add} an append.
+     */
+    private static final class Postings {
+        long[] ids = new long[4];
+        int size;
+        
+        void add(long id) {
+            if (size > 0 && ids[size - 1] >= id) {
+                int position = Arrays.binarySearch(ids, 0, size, id);
+                if (position >= 0) {
+                    return;
+                }
+                insertAt(-position - 1, id);
+                return;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+            }
+            ids[size++] = id;
+        }
+        
+        private void insertAt(int index, long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+            }
+            System.arraycopy(ids, index, ids, index + 1, size - index);
+            ids[index] = id;
+            size++;
+        }
+    }
+}
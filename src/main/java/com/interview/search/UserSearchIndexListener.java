@@ -0,0 +1,56 @@
+package com.interview.search;
+
+import com.interview.model.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Consumer;
+
+/**
+ * JPA entity listener that feeds {@link User} changes into {@link UserSearchService}
+ * once the surrounding transaction commits, so rolled-back writes never reach the index.
+ * Does nothing when the search service is not part of the context, or when the listener
+ * was not created by Spring.
+ */
+public class UserSearchIndexListener {
+    
+    @Autowired
+    private ObjectProvider<UserSearchService> userSearchService;
+    
+    @PostPersist
+    public void onPersist(User user) {
+        afterCommit(service -> service.index(user));
+    }
+    
+    @PostUpdate
+    public void onUpdate(User user) {
+        afterCommit(service -> service.reindex(user));
+    }
+    
+    @PostRemove
+    public void onRemove(User user) {
+        afterCommit(UserSearchService::markStale);
+    }
+    
+    private void afterCommit(Consumer<UserSearchService> action) {
+        if (userSearchService == null) {
+            return;
+        }
+        Runnable task = () -> userSearchService.ifAvailable(action);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,257 @@
+package com.interview.search;
+
+import com.interview.config.ConditionalOnDatabase;
+import com.interview.metrics.ServiceTimer;
+import com.interview.model.User;
+import com.interview.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Substring search over user emails and usernames backed by {@link TrigramIndex}.
+ * <p>
+ * The index is built in the background at startup and kept current by
+ * {@link UserSearchIndexListener} after each commit. Until it is ready, and for queries
+ * shorter than a trigram, searches fall back to the repository's {@code LIKE} queries.
+ * Both paths are case-insensitive and return users in id order, so results do not depend
+ * on which one answered. Updated and deleted users leave stale entries
+ * behind; candidates are verified after loading, and the index is rebuilt once stale
+ * entries exceed {@code users.search.rebuild-stale-ratio} of indexed users.
+ */
+@Service
+@ConditionalOnDatabase
+public class UserSearchService {
+    private static final Logger log = LoggerFactory.getLogger(UserSearchService.class);
+    
+    private static final int HYDRATE_BATCH_SIZE = 1000;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Autowired
+    private ObjectProvider<MeterRegistry> meterRegistry;
+    
+    private final TransactionTemplate readOnlyTransaction;
+    private final double rebuildStaleRatio;
+    private final ExecutorService builder = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "user-search-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+    private final AtomicLong indexedUsers = new AtomicLong();
+    private final AtomicLong staleEntries = new AtomicLong();
+    
+    private volatile Indexes current = new Indexes();
+    private volatile Indexes building;
+    private volatile boolean ready;
+    
+    private ServiceTimer emailSearchTimer = ServiceTimer.NOOP;
+    private ServiceTimer usernameSearchTimer = ServiceTimer.NOOP;
+    
+    public UserSearchService(PlatformTransactionManager transactionManager,
+                             @Value("${users.search.rebuild-stale-ratio:0.25}") double rebuildStaleRatio) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.rebuildStaleRatio = rebuildStaleRatio;
+    }
+    
+    @PostConstruct
+    void registerMetrics() {
+        emailSearchTimer = ServiceTimer.of(meterRegistry, "UserSearchService", "findByEmailContaining");
+        usernameSearchTimer = ServiceTimer.of(meterRegistry, "UserSearchService", "findByUsernameContaining");
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        scheduleRebuild();
+    }
+    
+    /**
+     * Queues a full rebuild on the background thread unless one is already queued.
+     */
+    public Future<?> scheduleRebuild() {
+        rebuildScheduled.set(true);
+        return builder.submit(() -> {
+            rebuildScheduled.set(false);
+            rebuild();
+        });
+    }
+    
+    public List<User> findByEmailContaining(String emailPart) {
+        long started = emailSearchTimer.start();
+        boolean succeeded = false;
+        try {
+            long[] ids = emailCandidates(emailPart);
+            List<User> users = ids == null
+                    ? userRepository.findByEmailContainingIgnoreCaseOrderByIdAsc(emailPart)
+                    : hydrate(ids, user -> containsIgnoreCase(user.getEmail(), emailPart));
+            succeeded = true;
+            return users;
+        } finally {
+            emailSearchTimer.stop(started, succeeded);
+        }
+    }
+    
+    public List<User> findByUsernameContaining(String usernamePart) {
+        long started = usernameSearchTimer.start();
+        boolean succeeded = false;
+        try {
+            long[] ids = usernameCandidates(usernamePart);
+            List<User> users = ids == null
+                    ? userRepository.findByUsernameContainingIgnoreCaseOrderByIdAsc(usernamePart)
+                    : hydrate(ids, user -> containsIgnoreCase(user.getUsername(), usernamePart));
+            succeeded = true;
+            return users;
+        } finally {
+            usernameSearchTimer.stop(started, succeeded);
+        }
+    }
+    
+    /**
+     * Returns sorted candidate ids for users whose email may contain {@code emailPart},
+     * or {@code null} when the index cannot answer (not ready, or query too short).
+     */
+    public long[] emailCandidates(String emailPart) {
+        return ready ? current.email.candidates(emailPart) : null;
+    }
+    
+    public long[] usernameCandidates(String usernamePart) {
+        return ready ? current.username.candidates(usernamePart) : null;
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    /**
+     * Adds a newly created user.
+     */
+    void index(User user) {
+        if (add(user)) {
+            indexedUsers.incrementAndGet();
+        }
+    }
+    
+    /**
+     * Adds the new text of an updated user; entries for its old text become stale.
+     */
+    void reindex(User user) {
+        if (add(user)) {
+            markStale();
+        }
+    }
+    
+    private boolean add(User user) {
+        if (user.getId() == null) {
+            return false;
+        }
+        current.add(user);
+        Indexes next = building;
+        if (next != null) {
+            next.add(user);
+        }
+        return true;
+    }
+    
+    void markStale() {
+        long stale = staleEntries.incrementAndGet();
+        if (ready && stale > indexedUsers.get() * rebuildStaleRatio && !rebuildScheduled.get()) {
+            scheduleRebuild();
+        }
+    }
+    
+    private void rebuild() {
+        long start = System.nanoTime();
+        Indexes next = new Indexes();
+        // Publish before reading so users committed during the scan are added to both indexes.
+        building = next;
+        long count;
+        try {
+            count = readOnlyTransaction.execute(status -> {
+                long scanned = 0;
+                try (Stream<User> users = userRepository.streamAll()) {
+                    for (User user : (Iterable<User>) users::iterator) {
+                        next.add(user);
+                        entityManager.detach(user);
+                        scanned++;
+                    }
+                }
+                return scanned;
+            });
+        } catch (RuntimeException e) {
+            building = null;
+            log.error("Failed to build user search index", e);
+            return;
+        }
+        current = next;
+        building = null;
+        indexedUsers.set(count);
+        staleEntries.set(0);
+        ready = true;
+        log.info("Built user search index over {} users ({} email trigrams) in {} ms",
+                count, next.email.getTrigramCount(), (System.nanoTime() - start) / 1_000_000);
+    }
+    
+    private List<User> hydrate(long[] ids, Predicate<User> matches) {
+        List<User> result = new ArrayList<>();
+        for (int from = 0; from < ids.length; from += HYDRATE_BATCH_SIZE) {
+            long[] batch = Arrays.copyOfRange(ids, from, Math.min(from + HYDRATE_BATCH_SIZE, ids.length));
+            for (User user : userRepository.findAllById(Arrays.stream(batch).boxed().toList())) {
+                if (matches.test(user)) {
+                    result.add(user);
+                }
+            }
+        }
+        result.sort(Comparator.comparing(User::getId));
+        return result;
+    }
+    
+    private static boolean containsIgnoreCase(String text, String part) {
+        return text != null && TrigramIndex.normalize(text).contains(part.toLowerCase(Locale.ROOT));
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        builder.shutdownNow();
+    }
+    
+    private static final class Indexes {
+        final TrigramIndex email = new TrigramIndex();
+        final TrigramIndex username = new TrigramIndex();
+        
+        void add(User user) {
+            email.add(user.getId(), user.getEmail());
+            username.add(user.getId(), user.getUsername());
+        }
+    }
+}
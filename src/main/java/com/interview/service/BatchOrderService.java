@@ -0,0 +1,155 @@
+package com.interview.service;
+
+import com.interview.metrics.ServiceTimer;
+import com.interview.model.OrderResult;
+import com.interview.service.sequence.SequenceBlock;
+import com.interview.util.ContextAwareExecutorService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Processes batches of orders in parallel chunks.
+ * <p>
+ * The whole batch reserves one contiguous block of order numbers up front, so numbering
+ * within a batch is sequential no matter which worker handles a chunk. Chunks are handed
+ * to the writer in submission order as soon as they finish, and only a bounded number of
+ * chunks are in flight, so memory does not grow with the batch size. Workers run with
+ * the submitting request's context.
+ */
+@Service
+public class BatchOrderService {
+    
+    @Autowired
+    private OrderProcessingService orderProcessingService;
+    
+    @Autowired
+    private ObjectProvider<MeterRegistry> meterRegistry;
+    
+    private final int chunkSize;
+    private final int maxChunksInFlight;
+    private final ExecutorService executor;
+    private ServiceTimer processBatchTimer = ServiceTimer.NOOP;
+    
+    public BatchOrderService(@Value("${orders.batch.chunk-size:1024}") int chunkSize,
+                             @Value("${orders.batch.parallelism:0}") int parallelism) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("orders.batch.chunk-size must be positive: " + chunkSize);
+        }
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.chunkSize = chunkSize;
+        this.maxChunksInFlight = threads * 2;
+        this.executor = newBoundedExecutor(threads);
+    }
+    
+    @PostConstruct
+    void registerMetrics() {
+        processBatchTimer = ServiceTimer.of(meterRegistry, "BatchOrderService", "processBatch");
+    }
+    
+    /**
+     * Receives batch results in the same order as the submitted customers.
+     */
+    @FunctionalInterface
+    public interface OrderResultWriter {
+        void write(OrderResult result) throws IOException;
+        
+        /**
+         * Called after each completed chunk has been written.
+         */
+        default void chunkComplete() throws IOException {
+        }
+    }
+    
+    public void processBatch(String[] customers, OrderResultWriter writer) throws IOException {
+        long started = processBatchTimer.start();
+        boolean succeeded = false;
+        try {
+            processChunks(customers, writer);
+            succeeded = true;
+        } finally {
+            processBatchTimer.stop(started, succeeded);
+        }
+    }
+    
+    private void processChunks(String[] customers, OrderResultWriter writer) throws IOException {
+        SequenceBlock orderNumbers = orderProcessingService.reserveOrderNumbers(customers.length);
+        Deque<Future<List<OrderResult>>> inFlight = new ArrayDeque<>();
+        int submitted = 0;
+        try {
+            while (submitted < customers.length || !inFlight.isEmpty()) {
+                while (submitted < customers.length && inFlight.size() < maxChunksInFlight) {
+                    int from = submitted;
+                    int to = Math.min(from + chunkSize, customers.length);
+                    inFlight.add(executor.submit(() -> processChunk(customers, from, to, orderNumbers)));
+                    submitted = to;
+                }
+                for (OrderResult result : await(inFlight.poll())) {
+                    writer.write(result);
+                }
+                writer.chunkComplete();
+            }
+        } finally {
+            for (Future<List<OrderResult>> pending : inFlight) {
+                pending.cancel(true);
+            }
+        }
+    }
+    
+    private List<OrderResult> processChunk(String[] customers, int from, int to, SequenceBlock orderNumbers) {
+        List<OrderResult> results = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            long orderNumber = orderNumbers.get(i);
+            String summary = orderProcessingService.formatOrder(orderNumber, customers[i]);
+            results.add(new OrderResult(orderNumber, customers[i], summary));
+        }
+        return results;
+    }
+    
+    private static List<OrderResult> await(Future<List<OrderResult>> chunk) {
+        try {
+            return chunk.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for batch chunk", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Batch chunk failed", e.getCause());
+        }
+    }
+    
+    private static ExecutorService newBoundedExecutor(int threads) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(threads * 16),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "order-batch-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        pool.allowCoreThreadTimeOut(true);
+        return new ContextAwareExecutorService(pool);
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -1,27 +1,60 @@
 package com.interview.service;
 
+import com.interview.service.sequence.BlockReservingSequencer;
+import com.interview.service.sequence.SequenceBlock;
+import com.interview.service.sequence.Sequencer;
+import com.interview.service.sequence.SequencerMode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Service;
 
 /**
  * Counter service that maintains order numbers.
  * Each instance starts counting from 0 and increments with each call.
+ * Increments are thread-safe; the strategy is chosen with {@code orders.sequencer.mode}.
  */
 @Service
 @Scope("prototype")
-public class CounterService {
+public class CounterService implements Sequencer {
     
-    private int count = 0;
+    private final Sequencer sequencer;
+    
+    public CounterService() {
+        this(SequencerMode.ATOMIC, BlockReservingSequencer.DEFAULT_BLOCK_SIZE);
+    }
+    
+    @Autowired
+    public CounterService(@Value("${orders.sequencer.mode:ATOMIC}") SequencerMode mode,
+                          @Value("${orders.sequencer.block-size:1024}") int blockSize) {
+        this.sequencer = mode.create(blockSize);
+    }
     
     public int getNextValue() {
-        return ++count;
+        return Math.toIntExact(next());
     }
     
     public int getCurrentValue() {
-        return count;
+        return Math.toIntExact(current());
+    }
+    
+    @Override
+    public long next() {
+        return sequencer.next();
+    }
+    
+    @Override
+    public SequenceBlock reserve(int size) {
+        return sequencer.reserve(size);
+    }
+    
+    @Override
+    public long current() {
+        return sequencer.current();
     }
     
+    @Override
     public void reset() {
-        count = 0;
+        sequencer.reset();
     }
 }
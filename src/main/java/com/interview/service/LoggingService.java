@@ -1,34 +1,91 @@
 package com.interview.service;
 
+import com.interview.service.operation.OperationExecutor;
+import com.interview.service.operation.OperationExecutorMode;
+import com.interview.service.operation.OperationLatency;
+import com.interview.service.operation.OperationLatencyRecorder;
+import com.interview.util.RequestContextTaskDecorator;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Service that performs various operations with logging.
+ * <p>
+ * Operations run on an {@link OperationExecutor} chosen with {@code operations.executor.mode},
+ * so waiting on simulated work ({@code operations.simulated-latency}) holds no thread.
+ * The request context of the caller is carried into the completion logging.
  */
 @Service
 public class LoggingService {
     private static final Logger log = LoggerFactory.getLogger(LoggingService.class);
     
+    private static final int MAX_OPERATION_NAMES = 1000;
+    
+    private final OperationExecutor operationExecutor;
+    private final Duration simulatedLatency;
+    private final OperationLatencyRecorder latencies = new OperationLatencyRecorder(MAX_OPERATION_NAMES);
+    
+    public LoggingService() {
+        this(OperationExecutorMode.TIMER, Duration.ofMillis(100));
+    }
+    
+    @Autowired
+    public LoggingService(@Value("${operations.executor.mode:TIMER}") OperationExecutorMode mode,
+                          @Value("${operations.simulated-latency:PT0.1S}") Duration simulatedLatency) {
+        this.operationExecutor = mode.create();
+        this.simulatedLatency = simulatedLatency;
+    }
+    
+    /**
+     * Performs the operation and waits for it. Prefer {@link #performOperationAsync}.
+     */
     public void performOperation(String operationName) {
+        performOperationAsync(operationName).join();
+    }
+    
+    /**
+     * Starts the operation and returns a future that completes once it has finished and
+     * been logged. Failures are logged and recorded, not propagated.
+     */
+    public CompletableFuture<Void> performOperationAsync(String operationName) {
         log.info("Starting operation: {}", operationName);
+        long started = System.nanoTime();
         
-        try {
-            // Simulate some work
-            Thread.sleep(100);
-            log.debug("Operation {} is in progress", operationName);
-            
-            // Simulate potential error
-            if ("error".equals(operationName)) {
-                throw new RuntimeException("Simulated error");
+        // Simulate some work
+        return operationExecutor.delay(simulatedLatency).thenRun(RequestContextTaskDecorator.wrap(() -> {
+            boolean failed = false;
+            try {
+                log.debug("Operation {} is in progress", operationName);
+                
+                // Simulate potential error
+                if ("error".equals(operationName)) {
+                    throw new RuntimeException("Simulated error");
+                }
+                
+                log.info("Operation {} completed successfully", operationName);
+                
+            } catch (Exception e) {
+                failed = true;
+                log.error("Operation {} failed: {}", operationName, e.getMessage(), e);
+            } finally {
+                latencies.record(operationName, System.nanoTime() - started, failed);
             }
-            
-            log.info("Operation {} completed successfully", operationName);
-            
-        } catch (Exception e) {
-            log.error("Operation {} failed: {}", operationName, e.getMessage(), e);
-        }
+        }));
+    }
+    
+    /**
+     * Latency summary per operation name since startup.
+     */
+    public Map<String, OperationLatency> getOperationLatencies() {
+        return latencies.snapshot();
     }
     
     public void logAtDifferentLevels() {
@@ -38,4 +95,9 @@ public class LoggingService {
         log.warn("This is a WARN message");
         log.error("This is an ERROR message");
     }
+    
+    @PreDestroy
+    public void shutdown() {
+        operationExecutor.close();
+    }
 }
@@ -1,11 +1,31 @@
 package com.interview.service;
 
+import com.interview.metrics.ServiceTimer;
+import com.interview.service.idempotency.IdempotencyStore;
+import com.interview.service.ingest.OrderIngestQueue;
+import com.interview.service.sequence.SequenceBlock;
+import com.interview.util.RequestContext;
+import com.interview.util.RequestContextHolder;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+
 /**
  * Service that processes orders and assigns sequential order numbers.
  * Order numbering should start from 1 for each new request.
+ * <p>
+ * With {@code orders.ingest.enabled} single orders go through an {@link OrderIngestQueue},
+ * which numbers them in micro-batches and commits each batch through the
+ * {@link OrderIngestQueue.GroupCommit} bean, if there is one.
  */
 @Service
 public class OrderProcessingService {
@@ -13,11 +33,105 @@ public class OrderProcessingService {
     @Autowired
     private CounterService counterService;
     
+    @Autowired
+    private ObjectProvider<MeterRegistry> meterRegistry;
+    
+    @Autowired
+    private ObjectProvider<OrderIngestQueue.GroupCommit> groupCommit;
+    
+    @Value("${orders.idempotency.maximum-keys:100000}")
+    private long idempotencyMaximumKeys;
+    
+    @Value("${orders.idempotency.ttl:PT24H}")
+    private Duration idempotencyTtl;
+    
+    @Value("${orders.ingest.enabled:false}")
+    private boolean ingestEnabled;
+    
+    @Value("${orders.ingest.capacity:8192}")
+    private int ingestCapacity;
+    
+    @Value("${orders.ingest.max-batch-size:256}")
+    private int ingestMaxBatchSize;
+    
+    @Value("${orders.ingest.window:PT0S}")
+    private Duration ingestWindow;
+    
+    private ServiceTimer processOrderTimer = ServiceTimer.NOOP;
+    private IdempotencyStore<String> processedOrders;
+    private OrderIngestQueue ingestQueue;
+    
+    @PostConstruct
+    void initialize() {
+        processOrderTimer = ServiceTimer.of(meterRegistry, "OrderProcessingService", "processOrder");
+        processedOrders = new IdempotencyStore<>(idempotencyMaximumKeys, idempotencyTtl);
+        MeterRegistry registry = meterRegistry != null ? meterRegistry.getIfAvailable() : null;
+        if (registry != null) {
+            CaffeineCacheMetrics.monitor(registry, processedOrders.cache(), "orders.idempotency");
+        }
+        if (ingestEnabled) {
+            ingestQueue = new OrderIngestQueue(this::reserveOrderNumbers, this::formatOrder,
+                    groupCommit.getIfAvailable(() -> OrderIngestQueue.GroupCommit.NONE),
+                    ingestCapacity, ingestMaxBatchSize, ingestWindow);
+            if (registry != null) {
+                FunctionCounter.builder("orders.ingest.batches", ingestQueue, OrderIngestQueue::getBatches)
+                        .register(registry);
+                FunctionCounter.builder("orders.ingest.orders", ingestQueue, OrderIngestQueue::getCommittedOrders)
+                        .register(registry);
+                Gauge.builder("orders.ingest.queued", ingestQueue, OrderIngestQueue::getQueuedOrders)
+                        .register(registry);
+            }
+        }
+    }
+    
+    @PreDestroy
+    void shutdown() {
+        if (ingestQueue != null) {
+            ingestQueue.close();
+        }
+    }
+    
     public String processOrder(String customerName) {
-        int orderNumber = counterService.getNextValue();
+        long started = processOrderTimer.start();
+        boolean succeeded = false;
+        try {
+            String order = ingestQueue != null
+                    ? ingestQueue.process(customerName).getSummary()
+                    : formatOrder(counterService.getNextValue(), customerName);
+            succeeded = true;
+            return order;
+        } finally {
+            processOrderTimer.stop(started, succeeded);
+        }
+    }
+    
+    /**
+     * Processes the order once per {@code idempotencyKey} and current user: a retry with the
+     * same key returns the original order instead of taking another order number, and
+     * concurrent retries wait for the first. Without a key every call is a new order.
+     *
+     * @throws IdempotencyStore.KeyReusedException if the key was used for another customer
+     */
+    public String processOrder(String customerName, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return processOrder(customerName);
+        }
+        RequestContext context = RequestContextHolder.getContext();
+        String userId = context != null ? context.getUserId() : null;
+        return processedOrders.execute(userId, idempotencyKey, customerName, () -> processOrder(customerName));
+    }
+    
+    public String formatOrder(long orderNumber, String customerName) {
         return String.format("Order #%d for customer: %s", orderNumber, customerName);
     }
     
+    /**
+     * Reserves a contiguous block of order numbers, e.g. for a batch.
+     */
+    public SequenceBlock reserveOrderNumbers(int count) {
+        return counterService.reserve(count);
+    }
+    
     public int getLastOrderNumber() {
         return counterService.getCurrentValue();
     }
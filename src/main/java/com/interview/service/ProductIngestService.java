@@ -0,0 +1,120 @@
+package com.interview.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interview.catalog.ProductStore;
+import com.interview.codec.ProductJsonCodec;
+import com.interview.model.Product;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ingests products from a streamed NDJSON or JSON-array body.
+ * <p>
+ * Records are parsed one at a time with {@link ProductJsonCodec} and handed to the
+ * listener in fixed-size batches, so memory use depends on the batch size and not on
+ * the size of the payload.
+ */
+@Service
+public class ProductIngestService {
+    
+    private final JsonFactory jsonFactory;
+    private final int batchSize;
+    
+    public ProductIngestService(ObjectMapper objectMapper,
+                                @Value("${products.ingest.batch-size:1000}") int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("products.ingest.batch-size must be positive: " + batchSize);
+        }
+        this.jsonFactory = objectMapper.getFactory();
+        this.batchSize = batchSize;
+    }
+    
+    /**
+     * Receives each completed batch. The lists are reused after the call returns.
+     */
+    @FunctionalInterface
+    public interface IngestListener {
+        void onBatch(int batchNumber, List<Product> accepted, List<IngestError> rejected) throws IOException;
+    }
+    
+    /**
+     * A record that failed validation; {@code record} is its 1-based position in the stream.
+     */
+    public record IngestError(long record, String message) {
+    }
+    
+    public record IngestSummary(long accepted, long rejected, int batches) {
+    }
+    
+    public IngestSummary ingest(InputStream body, IngestListener listener) throws IOException {
+        List<Product> accepted = new ArrayList<>(batchSize);
+        List<IngestError> rejected = new ArrayList<>();
+        long record = 0;
+        long totalAccepted = 0;
+        long totalRejected = 0;
+        int batches = 0;
+        
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            JsonToken token = parser.nextToken();
+            boolean array = token == JsonToken.START_ARRAY;
+            if (array) {
+                token = parser.nextToken();
+            }
+            while (token != null && !(array && token == JsonToken.END_ARRAY)) {
+                Product product = ProductJsonCodec.read(parser);
+                record++;
+                String problem = validate(product);
+                if (problem == null) {
+                    accepted.add(product);
+                } else {
+                    rejected.add(new IngestError(record, problem));
+                }
+                if (accepted.size() + rejected.size() == batchSize) {
+                    listener.onBatch(++batches, accepted, rejected);
+                    totalAccepted += accepted.size();
+                    totalRejected += rejected.size();
+                    accepted.clear();
+                    rejected.clear();
+                }
+                token = parser.nextToken();
+            }
+        }
+        if (!accepted.isEmpty() || !rejected.isEmpty()) {
+            listener.onBatch(++batches, accepted, rejected);
+            totalAccepted += accepted.size();
+            totalRejected += rejected.size();
+        }
+        return new IngestSummary(totalAccepted, totalRejected, batches);
+    }
+    
+    /**
+     * Returns a description of what is wrong with {@code product}, or {@code null} if it is valid.
+     */
+    public static String validate(Product product) {
+        if (product.getProductId() == null || product.getProductId().isBlank()) {
+            return "product_id is required";
+        }
+        if (product.getProductName() == null || product.getProductName().isBlank()) {
+            return "product_name is required";
+        }
+        if (product.getPrice() == null) {
+            return "price is required";
+        }
+        if (product.getPrice().compareTo(BigDecimal.ZERO) < 0) {
+            return "price must not be negative";
+        }
+        if (product.getPrice().compareTo(ProductStore.MAX_PRICE) > 0) {
+            return "price must not exceed " + ProductStore.MAX_PRICE.toPlainString();
+        }
+        return null;
+    }
+}
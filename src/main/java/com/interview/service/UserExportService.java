@@ -0,0 +1,55 @@
+package com.interview.service;
+
+import com.interview.config.ConditionalOnDatabase;
+import com.interview.model.User;
+import com.interview.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Streams users out of the database for export jobs.
+ * <p>
+ * Rows are read through a JDBC cursor with a fixed fetch size and each entity is
+ * detached once written, so memory use does not depend on the number of rows.
+ */
+@Service
+@ConditionalOnDatabase
+public class UserExportService {
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @FunctionalInterface
+    public interface UserWriter {
+        void write(User user) throws IOException;
+    }
+    
+    /**
+     * Writes every user, or only users with the given active flag when {@code active}
+     * is not {@code null}, and returns how many were written.
+     */
+    @Transactional(readOnly = true)
+    public long export(Boolean active, UserWriter writer) throws IOException {
+        long written = 0;
+        try (Stream<User> users = active == null ? userRepository.streamAll() : userRepository.streamByActiveStatus(active)) {
+            Iterator<User> iterator = users.iterator();
+            while (iterator.hasNext()) {
+                User user = iterator.next();
+                writer.write(user);
+                entityManager.detach(user);
+                written++;
+            }
+        }
+        return written;
+    }
+}
@@ -0,0 +1,98 @@
+package com.interview.service;
+
+import com.interview.config.ConditionalOnDatabase;
+import com.interview.model.User;
+import com.interview.repository.CachedUserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Imports large numbers of users with batched JDBC inserts.
+ * <p>
+ * Users are persisted in transactions of {@code users.import.transaction-size} rows.
+ * The persistence context is flushed and cleared every
+ * {@code hibernate.jdbc.batch_size} rows, so each flush is one JDBC batch and the
+ * session never holds more than one batch of entities.
+ */
+@Service
+@ConditionalOnDatabase
+public class UserImportService {
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Autowired
+    private CachedUserRepository cachedUserRepository;
+    
+    private final TransactionTemplate transactionTemplate;
+    private final int flushSize;
+    private final int transactionSize;
+    
+    public UserImportService(PlatformTransactionManager transactionManager,
+                             @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int flushSize,
+                             @Value("${users.import.transaction-size:10000}") int transactionSize) {
+        if (flushSize < 1 || transactionSize < 1) {
+            throw new IllegalArgumentException("batch and transaction sizes must be positive");
+        }
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.flushSize = flushSize;
+        this.transactionSize = transactionSize;
+    }
+    
+    /**
+     * Persists every user from {@code users} as a new row and returns how many were imported.
+     * A failing row rolls back only the transaction it belongs to; earlier ones stay committed.
+     */
+    public long importUsers(Iterator<User> users) {
+        long imported = 0;
+        while (users.hasNext()) {
+            Integer count = transactionTemplate.execute(status -> persistChunk(users));
+            imported += count;
+        }
+        return imported;
+    }
+    
+    private int persistChunk(Iterator<User> users) {
+        List<User> batch = new ArrayList<>(flushSize);
+        int count = 0;
+        while (count < transactionSize && users.hasNext()) {
+            User user = prepare(users.next());
+            entityManager.persist(user);
+            batch.add(user);
+            if (++count % flushSize == 0) {
+                flushAndClear(batch);
+            }
+        }
+        flushAndClear(batch);
+        return count;
+    }
+    
+    private void flushAndClear(List<User> batch) {
+        entityManager.flush();
+        entityManager.clear();
+        // Also evicted after the chunk commits, so lookups in between do not cache a miss
+        cachedUserRepository.invalidate(batch);
+        batch.clear();
+    }
+    
+    private static User prepare(User user) {
+        user.setId(null);
+        if (user.getCreatedAt() == null) {
+            user.setCreatedAt(LocalDateTime.now());
+        }
+        if (user.getIsActive() == null) {
+            user.setIsActive(true);
+        }
+        return user;
+    }
+}
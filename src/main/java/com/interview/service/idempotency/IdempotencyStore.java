@@ -0,0 +1,164 @@
+package com.interview.service.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Remembers the result of an operation under a client-supplied idempotency key, so a
+ * retried request gets the original result instead of running the operation again.
+ * <p>
+ * Concurrent requests with the same key are coalesced: the first runs the operation and
+ * the rest wait for its result. A failed operation is forgotten, so the next request with
+ * its key runs it again. Reusing a key for a different request (a different fingerprint)
+ * is rejected with {@link KeyReusedException}.
+ * <p>
+ * At most {@code maximumKeys} completed results are kept, each for {@code ttl} after it
+ * completed. Operations still in flight do not count towards the bound and are never
+ * evicted, so a duplicate arriving mid-flight always joins the running operation.
+ */
+public class IdempotencyStore<V> {
+
+    public static final int MAX_KEY_LENGTH = 255;
+
+    private final Cache<Key, Entry<V>> entries;
+
+    public IdempotencyStore(long maximumKeys, Duration ttl) {
+        if (maximumKeys < 1) {
+            throw new IllegalArgumentException("maximumKeys must be positive: " + maximumKeys);
+        }
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(maximumKeys)
+                .weigher((Key key, Entry<V> entry) -> entry.result.isDone() ? 1 : 0)
+                .expireAfter(new CompletedExpiry<V>(ttl.toNanos()))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns the result remembered for {@code key} within {@code scope}, running
+     * {@code operation} to produce it if there is none.
+     *
+     * @param scope       who the key belongs to, e.g. a user ID; keys never match across scopes
+     * @param fingerprint identifies the request the key was first used for
+     * @throws InvalidKeyException      if the key is blank or longer than {@link #MAX_KEY_LENGTH}
+     * @throws KeyReusedException       if the key was first used with another fingerprint
+     */
+    public V execute(String scope, String key, String fingerprint, Supplier<V> operation) {
+        if (key == null || key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidKeyException();
+        }
+        Key entryKey = new Key(scope != null ? scope : "", key);
+        while (true) {
+            Entry<V> created = new Entry<>(fingerprint);
+            Entry<V> entry = entries.asMap().putIfAbsent(entryKey, created);
+            if (entry == null) {
+                return run(entryKey, created, operation);
+            }
+            if (!Objects.equals(entry.fingerprint, fingerprint)) {
+                throw new KeyReusedException(key);
+            }
+            try {
+                return entry.result.join();
+            } catch (CompletionException | CancellationException e) {
+                // The operation failed and its entry is gone; the next attempt runs it again
+            }
+        }
+    }
+
+    private V run(Key key, Entry<V> entry, Supplier<V> operation) {
+        V result;
+        try {
+            result = operation.get();
+        } catch (RuntimeException | Error e) {
+            entries.asMap().remove(key, entry);
+            entry.result.completeExceptionally(e);
+            throw e;
+        }
+        entry.result.complete(result);
+        // Re-weighs the entry now that it is done, so it counts towards the bound
+        entries.asMap().replace(key, entry, entry);
+        return result;
+    }
+
+    /**
+     * Number of remembered results and operations in flight.
+     */
+    public long size() {
+        entries.cleanUp();
+        return entries.estimatedSize();
+    }
+
+    /**
+     * The underlying cache, for metrics.
+     */
+    public Cache<?, ?> cache() {
+        return entries;
+    }
+
+    /**
+     * Thrown when an idempotency key is reused for a different request.
+     */
+    public static class KeyReusedException extends RuntimeException {
+
+        public KeyReusedException(String key) {
+            super("Idempotency key " + key + " was already used for a different request");
+        }
+    }
+
+    /**
+     * Thrown when an idempotency key is blank or longer than {@link #MAX_KEY_LENGTH}.
+     */
+    public static class InvalidKeyException extends IllegalArgumentException {
+
+        public InvalidKeyException() {
+            super("Idempotency key must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+    }
+
+    private record Key(String scope, String key) {
+    }
+
+    /**
+     * Keeps an entry while its operation runs and for {@code ttlNanos} once it completes;
+     * {@link #run} replaces the entry on completion, which restarts the clock.
+     */
+    private static final class CompletedExpiry<V> implements Expiry<Key, Entry<V>> {
+        private final long ttlNanos;
+
+        CompletedExpiry(long ttlNanos) {
+            this.ttlNanos = ttlNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(Key key, Entry<V> entry, long currentTime) {
+            return entry.result.isDone() ? ttlNanos : Long.MAX_VALUE;
+        }
+
+        @Override
+        public long expireAfterUpdate(Key key, Entry<V> entry, long currentTime, long currentDuration) {
+            return entry.result.isDone() ? ttlNanos : Long.MAX_VALUE;
+        }
+
+        @Override
+        public long expireAfterRead(Key key, Entry<V> entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    private static final class Entry<V> {
+        final String fingerprint;
+        final CompletableFuture<V> result = new CompletableFuture<>();
+
+        Entry(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+    }
+}
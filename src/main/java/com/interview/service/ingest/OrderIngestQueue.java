@@ -0,0 +1,231 @@
+package com.interview.service.ingest;
+
+import com.interview.model.OrderResult;
+import com.interview.service.sequence.SequenceBlock;
+import com.interview.util.MpscRingBuffer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntFunction;
+
+/**
+ * Order ingestion stage that turns many single-order requests into micro-batches.
+ * <p>
+ * Callers enqueue orders into a bounded {@link MpscRingBuffer} and wait for their result.
+ * One consumer thread drains the buffer: once it has an order it keeps collecting until
+ * the batch holds {@code maxBatchSize} orders or {@code window} has passed, then reserves
+ * one contiguous block of order numbers for the whole batch, hands the batch to the
+ * {@link GroupCommit} in a single call and completes every waiting caller. A zero window
+ * commits whatever has queued up, so batches only form under load.
+ * <p>
+ * When the buffer is full, callers wait for space. If the group commit fails, every order
+ * in the batch fails with it; the reserved numbers are not reused.
+ */
+public class OrderIngestQueue implements AutoCloseable {
+
+    /**
+     * Makes a batch of numbered orders durable in one write. Called from the consumer
+     * thread only; callers are completed after it returns.
+     */
+    @FunctionalInterface
+    public interface GroupCommit {
+
+        GroupCommit NONE = orders -> {
+        };
+
+        void commit(List<OrderResult> orders) throws Exception;
+    }
+
+    /**
+     * Formats the summary of a numbered order.
+     */
+    @FunctionalInterface
+    public interface OrderFormatter {
+        String format(long orderNumber, String customerName);
+    }
+
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final MpscRingBuffer<PendingOrder> ring;
+    private final IntFunction<SequenceBlock> orderNumbers;
+    private final OrderFormatter formatter;
+    private final GroupCommit groupCommit;
+    private final int maxBatchSize;
+    private final long windowNanos;
+    private final Thread consumer;
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder committedOrders = new LongAdder();
+    private volatile boolean consumerWaiting;
+    private volatile boolean running = true;
+    private volatile boolean stopped;
+
+    // Consumer thread only
+    private final List<PendingOrder> batch;
+
+    public OrderIngestQueue(IntFunction<SequenceBlock> orderNumbers, OrderFormatter formatter,
+                            GroupCommit groupCommit, int capacity, int maxBatchSize, Duration window) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be positive: " + maxBatchSize);
+        }
+        if (window.isNegative()) {
+            throw new IllegalArgumentException("window must not be negative: " + window);
+        }
+        this.ring = new MpscRingBuffer<>(capacity);
+        this.orderNumbers = orderNumbers;
+        this.formatter = formatter;
+        this.groupCommit = groupCommit;
+        this.maxBatchSize = maxBatchSize;
+        this.windowNanos = window.toNanos();
+        this.batch = new ArrayList<>(maxBatchSize);
+        this.consumer = new Thread(this::runConsumer, "order-ingest");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    /**
+     * Enqueues an order; the future completes once its batch is committed.
+     *
+     * @throws RejectedExecutionException if the queue has been closed
+     */
+    public CompletableFuture<OrderResult> submit(String customerName) {
+        checkRunning();
+        PendingOrder order = new PendingOrder(customerName);
+        while (!ring.offer(order)) {
+            checkRunning();
+            LockSupport.parkNanos(FULL_PARK_NANOS);
+        }
+        if (stopped) {
+            // Enqueued after the consumer's final drain, so nobody else will complete it
+            order.result.completeExceptionally(shutDown());
+        }
+        if (consumerWaiting) {
+            consumerWaiting = false;
+            LockSupport.unpark(consumer);
+        }
+        return order.result;
+    }
+
+    /**
+     * Enqueues an order and waits for it to be committed.
+     */
+    public OrderResult process(String customerName) {
+        try {
+            return submit(customerName).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Order commit failed", e.getCause());
+        }
+    }
+
+    public long getBatches() {
+        return batches.sum();
+    }
+
+    public long getCommittedOrders() {
+        return committedOrders.sum();
+    }
+
+    public int getQueuedOrders() {
+        return ring.size();
+    }
+
+    /**
+     * Stops accepting orders, commits those already queued and waits for the consumer.
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(consumer);
+        try {
+            consumer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void checkRunning() {
+        if (!running) {
+            throw shutDown();
+        }
+    }
+
+    private static RejectedExecutionException shutDown() {
+        return new RejectedExecutionException("Order ingestion is shut down");
+    }
+
+    private void runConsumer() {
+        while (running || !ring.isEmpty()) {
+            if (ring.drain(batch::add, maxBatchSize) == 0) {
+                park(IDLE_PARK_NANOS);
+                continue;
+            }
+            long deadline = System.nanoTime() + windowNanos;
+            while (batch.size() < maxBatchSize) {
+                if (ring.drain(batch::add, maxBatchSize - batch.size()) > 0) {
+                    continue;
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || !running) {
+                    break;
+                }
+                park(remaining);
+            }
+            commit();
+        }
+        // Orders from producers that raced close(); any enqueued later are failed by their producer
+        stopped = true;
+        ring.drain(order -> order.result.completeExceptionally(shutDown()), Integer.MAX_VALUE);
+    }
+
+    private void park(long nanos) {
+        consumerWaiting = true;
+        if (ring.isEmpty() && running) {
+            LockSupport.parkNanos(this, nanos);
+        }
+        consumerWaiting = false;
+    }
+
+    private void commit() {
+        try {
+            SequenceBlock numbers = orderNumbers.apply(batch.size());
+            List<OrderResult> results = new ArrayList<>(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                long orderNumber = numbers.get(i);
+                String customerName = batch.get(i).customerName;
+                results.add(new OrderResult(orderNumber, customerName, formatter.format(orderNumber, customerName)));
+            }
+            groupCommit.commit(results);
+            // Counted before any caller is released, so a caller that returned sees its batch
+            batches.increment();
+            committedOrders.add(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result.complete(results.get(i));
+            }
+        } catch (Exception e) {
+            for (PendingOrder order : batch) {
+                order.result.completeExceptionally(e);
+            }
+        } finally {
+            batch.clear();
+        }
+    }
+
+    private static final class PendingOrder {
+        final String customerName;
+        final CompletableFuture<OrderResult> result = new CompletableFuture<>();
+
+        PendingOrder(String customerName) {
+            this.customerName = customerName;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.interview.service.operation;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Runs operations asynchronously without dedicating a platform thread to each one
+ * while it waits.
+ */
+public interface OperationExecutor extends AutoCloseable {
+    
+    /**
+     * Returns a future that completes after {@code latency}; stands in for I/O-bound work.
+     */
+    CompletableFuture<Void> delay(Duration latency);
+    
+    /**
+     * Runs {@code work}, which may block, and completes the future with its result.
+     */
+    <T> CompletableFuture<T> supply(Supplier<T> work);
+    
+    @Override
+    void close();
+}
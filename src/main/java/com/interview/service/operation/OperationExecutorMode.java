@@ -0,0 +1,29 @@
+package com.interview.service.operation;
+
+import com.interview.config.RequestExecutionConfig;
+
+/**
+ * Strategies available for {@link OperationExecutor}, selected with
+ * {@code operations.executor.mode}.
+ */
+public enum OperationExecutorMode {
+    
+    /**
+     * Delays are timer callbacks on one scheduler thread; work and continuations run on
+     * the common fork-join pool.
+     */
+    TIMER,
+    
+    /**
+     * Every operation gets its own virtual thread, so blocking work only parks that
+     * thread. Needs Java 21; earlier runtimes fall back to {@link #TIMER}.
+     */
+    VIRTUAL_THREADS;
+    
+    public OperationExecutor create() {
+        if (this == VIRTUAL_THREADS && RequestExecutionConfig.virtualThreadsAvailable()) {
+            return new VirtualThreadOperationExecutor();
+        }
+        return new TimerOperationExecutor();
+    }
+}
@@ -0,0 +1,7 @@
+package com.interview.service.operation;
+
+/**
+ * Latency summary for one operation name, in milliseconds.
+ */
+public record OperationLatency(long count, long failures, double meanMillis, double maxMillis) {
+}
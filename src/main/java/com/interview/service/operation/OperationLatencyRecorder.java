@@ -0,0 +1,56 @@
+package com.interview.service.operation;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records operation latencies per operation name. Recording is lock-free; names beyond
+ * {@code maxNames} are folded into {@link #OTHER} so callers cannot grow it without bound.
+ */
+public class OperationLatencyRecorder {
+    
+    public static final String OTHER = "other";
+    
+    private final int maxNames;
+    private final ConcurrentHashMap<String, Stats> byName = new ConcurrentHashMap<>();
+    
+    public OperationLatencyRecorder(int maxNames) {
+        this.maxNames = maxNames;
+    }
+    
+    public void record(String name, long elapsedNanos, boolean failed) {
+        Stats stats = byName.get(name);
+        if (stats == null) {
+            stats = byName.size() < maxNames
+                    ? byName.computeIfAbsent(name, ignored -> new Stats())
+                    : byName.computeIfAbsent(OTHER, ignored -> new Stats());
+        }
+        stats.count.increment();
+        stats.totalNanos.add(elapsedNanos);
+        stats.maxNanos.accumulate(elapsedNanos);
+        if (failed) {
+            stats.failures.increment();
+        }
+    }
+    
+    public Map<String, OperationLatency> snapshot() {
+        Map<String, OperationLatency> snapshot = new TreeMap<>();
+        byName.forEach((name, stats) -> {
+            long count = stats.count.sum();
+            snapshot.put(name, new OperationLatency(count, stats.failures.sum(),
+                    count == 0 ? 0 : stats.totalNanos.sum() / 1e6 / count,
+                    stats.maxNanos.get() / 1e6));
+        });
+        return snapshot;
+    }
+    
+    private static final class Stats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    }
+}
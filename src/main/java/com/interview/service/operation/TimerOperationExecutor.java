@@ -0,0 +1,52 @@
+package com.interview.service.operation;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * {@link OperationExecutor} that implements delays as timer callbacks. Pending delays
+ * cost a queue entry rather than a thread; the single timer thread only hands completion
+ * to {@code workers}, so continuations never run on it.
+ */
+public class TimerOperationExecutor implements OperationExecutor {
+    
+    private final ScheduledThreadPoolExecutor timer;
+    private final Executor workers;
+    
+    public TimerOperationExecutor() {
+        this(ForkJoinPool.commonPool());
+    }
+    
+    public TimerOperationExecutor(Executor workers) {
+        this.workers = workers;
+        this.timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "operation-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.timer.setRemoveOnCancelPolicy(true);
+    }
+    
+    @Override
+    public CompletableFuture<Void> delay(Duration latency) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        timer.schedule(() -> workers.execute(() -> future.complete(null)),
+                latency.toNanos(), TimeUnit.NANOSECONDS);
+        return future;
+    }
+    
+    @Override
+    public <T> CompletableFuture<T> supply(Supplier<T> work) {
+        return CompletableFuture.supplyAsync(work, workers);
+    }
+    
+    @Override
+    public void close() {
+        timer.shutdownNow();
+    }
+}
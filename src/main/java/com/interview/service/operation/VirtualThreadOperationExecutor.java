@@ -0,0 +1,50 @@
+package com.interview.service.operation;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * {@link OperationExecutor} that runs each operation on a new virtual thread, where
+ * sleeping or blocking I/O unmounts from the carrier thread. The executor is looked up
+ * reflectively because the code is compiled for Java 17.
+ */
+class VirtualThreadOperationExecutor implements OperationExecutor {
+    
+    private final ExecutorService executor;
+    
+    VirtualThreadOperationExecutor() {
+        try {
+            this.executor = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Virtual threads are not available on Java "
+                    + Runtime.version().feature(), e);
+        }
+    }
+    
+    @Override
+    public CompletableFuture<Void> delay(Duration latency) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                Thread.sleep(latency.toMillis(), latency.toNanosPart() % 1_000_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting", e);
+            }
+        }, executor);
+    }
+    
+    @Override
+    public <T> CompletableFuture<T> supply(Supplier<T> work) {
+        return CompletableFuture.supplyAsync(work, executor);
+    }
+    
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
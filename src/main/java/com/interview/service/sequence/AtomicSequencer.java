@@ -0,0 +1,36 @@
+package com.interview.service.sequence;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sequencer backed by a single {@link AtomicLong}. Every call is one CAS on a shared
+ * cache line, which keeps numbers strictly ordered at the cost of contention.
+ */
+public class AtomicSequencer implements Sequencer {
+
+    private final AtomicLong value = new AtomicLong();
+
+    @Override
+    public long next() {
+        return value.incrementAndGet();
+    }
+
+    @Override
+    public SequenceBlock reserve(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("size must not be negative: " + size);
+        }
+        long last = value.addAndGet(size);
+        return new SequenceBlock(last - size + 1, size);
+    }
+
+    @Override
+    public long current() {
+        return value.get();
+    }
+
+    @Override
+    public void reset() {
+        value.set(0);
+    }
+}
@@ -0,0 +1,80 @@
+package com.interview.service.sequence;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sequencer that hands each thread its own block of values. The shared high-water mark
+ * is only touched once per block, so threads on the hot path work on thread-confined
+ * state instead of contending on one cache line.
+ * <p>
+ * Values are unique but not globally ordered: two threads interleave their blocks.
+ * Values left in a thread's block are abandoned on {@link #reset()}.
+ */
+public class BlockReservingSequencer implements Sequencer {
+
+    public static final int DEFAULT_BLOCK_SIZE = 1024;
+
+    private final int blockSize;
+    private final AtomicLong highWaterMark = new AtomicLong();
+    private final LongAdder issued = new LongAdder();
+    private final ThreadLocal<LocalBlock> localBlock = ThreadLocal.withInitial(LocalBlock::new);
+    private volatile long generation;
+
+    public BlockReservingSequencer() {
+        this(DEFAULT_BLOCK_SIZE);
+    }
+
+    public BlockReservingSequencer(int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("blockSize must be positive: " + blockSize);
+        }
+        this.blockSize = blockSize;
+    }
+
+    @Override
+    public long next() {
+        LocalBlock block = localBlock.get();
+        long currentGeneration = generation;
+        if (block.next >= block.end || block.generation != currentGeneration) {
+            long last = highWaterMark.addAndGet(blockSize);
+            block.next = last - blockSize + 1;
+            block.end = last + 1;
+            block.generation = currentGeneration;
+        }
+        issued.increment();
+        return block.next++;
+    }
+
+    @Override
+    public SequenceBlock reserve(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("size must not be negative: " + size);
+        }
+        long last = highWaterMark.addAndGet(size);
+        issued.add(size);
+        return new SequenceBlock(last - size + 1, size);
+    }
+
+    @Override
+    public long current() {
+        return issued.sum();
+    }
+
+    @Override
+    public synchronized void reset() {
+        highWaterMark.set(0);
+        issued.reset();
+        generation++;
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    private static final class LocalBlock {
+        long next;
+        long end;
+        long generation = -1;
+    }
+}
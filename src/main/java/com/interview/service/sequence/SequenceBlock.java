@@ -0,0 +1,41 @@
+package com.interview.service.sequence;
+
+/**
+ * A contiguous range of sequence values {@code [first, first + size)}.
+ */
+public final class SequenceBlock {
+
+    private final long first;
+    private final int size;
+
+    public SequenceBlock(long first, int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("size must not be negative: " + size);
+        }
+        this.first = first;
+        this.size = size;
+    }
+
+    public long getFirst() {
+        return first;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the value at {@code index} within this block.
+     */
+    public long get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index " + index + " outside block of size " + size);
+        }
+        return first + index;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SequenceBlock{first=%d, size=%d}", first, size);
+    }
+}
@@ -0,0 +1,25 @@
+package com.interview.service.sequence;
+
+/**
+ * Source of monotonically assigned sequence numbers (e.g. order numbers).
+ * Implementations must be safe to call from many threads at once.
+ */
+public interface Sequencer {
+
+    /**
+     * Returns the next unused value. Values start at 1.
+     */
+    long next();
+
+    /**
+     * Reserves {@code size} contiguous values in a single step.
+     */
+    SequenceBlock reserve(int size);
+
+    /**
+     * Returns how many values have been handed out since the last reset.
+     */
+    long current();
+
+    void reset();
+}
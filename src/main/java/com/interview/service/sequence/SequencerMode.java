@@ -0,0 +1,22 @@
+package com.interview.service.sequence;
+
+/**
+ * Strategies available for {@link Sequencer}, selected with {@code orders.sequencer.mode}.
+ */
+public enum SequencerMode {
+
+    /**
+     * Every value comes from one shared {@code AtomicLong}; numbers are strictly ordered.
+     */
+    ATOMIC,
+
+    /**
+     * Each thread claims a block of values and hands them out locally; numbers are
+     * unique but not ordered across threads.
+     */
+    BLOCK;
+
+    public Sequencer create(int blockSize) {
+        return this == BLOCK ? new BlockReservingSequencer(blockSize) : new AtomicSequencer();
+    }
+}
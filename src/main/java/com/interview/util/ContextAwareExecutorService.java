@@ -0,0 +1,50 @@
+package com.interview.util;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ExecutorService} that propagates the submitter's {@link RequestContext} to the
+ * worker thread. Usable anywhere an {@code Executor} is accepted, including
+ * {@code CompletableFuture.supplyAsync(supplier, executor)} and the other async stages.
+ */
+public class ContextAwareExecutorService extends AbstractExecutorService {
+    
+    private final ExecutorService delegate;
+    
+    public ContextAwareExecutorService(ExecutorService delegate) {
+        this.delegate = delegate;
+    }
+    
+    @Override
+    public void execute(Runnable command) {
+        delegate.execute(RequestContextTaskDecorator.wrap(command));
+    }
+    
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+    
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+    
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+    
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+    
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+}
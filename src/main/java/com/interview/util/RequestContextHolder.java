@@ -1,14 +1,30 @@
 package com.interview.util;
 
+import org.slf4j.MDC;
+
+import java.util.concurrent.Callable;
+
 /**
- * Holds request context in ThreadLocal storage
+ * Holds request context in ThreadLocal storage.
+ * <p>
+ * Prefer the scoped {@link #bind(RequestContext)}, {@link #runWithContext} and
+ * {@link #callWithContext} methods over {@link #setContext}: they restore the previous
+ * value when the scope ends, so a pooled or virtual thread never carries a context
+ * past the work it was bound for.
+ * <p>
+ * The user and session IDs are mirrored into the logging MDC under {@link #MDC_USER_ID}
+ * and {@link #MDC_SESSION_ID}, so log events carry them even when they are written by
+ * another thread.
  */
 public class RequestContextHolder {
     
+    public static final String MDC_USER_ID = "userId";
+    public static final String MDC_SESSION_ID = "sessionId";
+    
     private static final ThreadLocal<RequestContext> contextHolder = new ThreadLocal<>();
     
     public static void setContext(RequestContext context) {
-        contextHolder.set(context);
+        set(context);
     }
     
     public static RequestContext getContext() {
@@ -16,6 +32,64 @@ public class RequestContextHolder {
     }
     
     public static void clear() {
-        contextHolder.remove();
+        set(null);
+    }
+    
+    /**
+     * Binds {@code context} to the current thread until the returned binding is closed.
+     * A {@code null} context runs the scope with no context at all.
+     */
+    public static Binding bind(RequestContext context) {
+        RequestContext previous = contextHolder.get();
+        set(context);
+        return new Binding(previous);
+    }
+    
+    public static void runWithContext(RequestContext context, Runnable task) {
+        try (Binding ignored = bind(context)) {
+            task.run();
+        }
+    }
+    
+    public static <T> T callWithContext(RequestContext context, Callable<T> task) throws Exception {
+        try (Binding ignored = bind(context)) {
+            return task.call();
+        }
+    }
+    
+    private static void set(RequestContext context) {
+        if (context == null) {
+            contextHolder.remove();
+            MDC.remove(MDC_USER_ID);
+            MDC.remove(MDC_SESSION_ID);
+        } else {
+            contextHolder.set(context);
+            putMdc(MDC_USER_ID, context.getUserId());
+            putMdc(MDC_SESSION_ID, context.getSessionId());
+        }
+    }
+    
+    private static void putMdc(String key, String value) {
+        if (value == null) {
+            MDC.remove(key);
+        } else {
+            MDC.put(key, value);
+        }
+    }
+    
+    /**
+     * Scope opened by {@link #bind(RequestContext)}; closing it restores the previous context.
+     */
+    public static final class Binding implements AutoCloseable {
+        private final RequestContext previous;
+        
+        private Binding(RequestContext previous) {
+            this.previous = previous;
+        }
+        
+        @Override
+        public void close() {
+            set(previous);
+        }
     }
 }
@@ -0,0 +1,28 @@
+package com.interview.util;
+
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Captures the submitting thread's {@link RequestContext} and binds it around the task
+ * on whichever thread runs it. The worker's own context is restored afterwards, so pooled
+ * threads are never left holding a request's context.
+ */
+public class RequestContextTaskDecorator implements TaskDecorator {
+    
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        return wrap(runnable);
+    }
+    
+    public static Runnable wrap(Runnable task) {
+        RequestContext snapshot = RequestContextHolder.getContext();
+        return () -> RequestContextHolder.runWithContext(snapshot, task);
+    }
+    
+    public static <T> Callable<T> wrap(Callable<T> task) {
+        RequestContext snapshot = RequestContextHolder.getContext();
+        return () -> RequestContextHolder.callWithContext(snapshot, task);
+    }
+}
@@ -0,0 +1,15 @@
+-- Runs at startup with the db profile (spring.sql.init), before Hibernate validates the schema.
+-- Statements must stay idempotent.
+
+-- Table-backed users_seq for User ids (MySQL has no sequences): one row holding the next value
+CREATE TABLE IF NOT EXISTS users_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+-- Seeded once, above the ids AUTO_INCREMENT already handed out. Hibernate's pooled optimizer
+-- treats the stored value as the top of a block of 50 (the allocationSize), so the first id
+-- it assigns is next_val - 49 = MAX(id) + 1. The guard sits outside the aggregate, which
+-- would otherwise return a row (NULL + 50) even when users_seq is already seeded.
+INSERT INTO users_seq (next_val)
+SELECT next_val FROM (SELECT COALESCE(MAX(id), 0) + 50 AS next_val FROM users) seed
+WHERE NOT EXISTS (SELECT 1 FROM users_seq);
@@ -0,0 +1,85 @@
+package com.interview.benchmark;
+
+import com.interview.util.ContextAwareExecutorService;
+import com.interview.util.RequestContext;
+import com.interview.util.RequestContextHolder;
+import com.interview.util.RequestContextTaskDecorator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures what request-context propagation adds to a task: the decorator alone
+ * (inline, no thread hop) and a full CompletableFuture round-trip through a pool.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContextPropagationBenchmark {
+
+    private final RequestContext context = new RequestContext("user-1", "session-1");
+    private final RequestContextTaskDecorator decorator = new RequestContextTaskDecorator();
+    private ExecutorService plainPool;
+    private ExecutorService contextAwarePool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RequestContextHolder.setContext(context);
+        plainPool = Executors.newFixedThreadPool(2);
+        contextAwarePool = new ContextAwareExecutorService(Executors.newFixedThreadPool(2));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        plainPool.shutdownNow();
+        contextAwarePool.shutdownNow();
+        RequestContextHolder.clear();
+    }
+
+    @Benchmark
+    public void inlinePlain(Blackhole blackhole) {
+        Runnable task = () -> blackhole.consume(context);
+        task.run();
+    }
+
+    @Benchmark
+    public void inlineDecorated(Blackhole blackhole) {
+        decorator.decorate(() -> blackhole.consume(RequestContextHolder.getContext())).run();
+    }
+
+    @Benchmark
+    public Object poolPlain() throws Exception {
+        return CompletableFuture.supplyAsync(() -> context, plainPool).get();
+    }
+
+    @Benchmark
+    public Object poolContextAware() throws Exception {
+        return CompletableFuture.supplyAsync(RequestContextHolder::getContext, contextAwarePool).get();
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(ContextPropagationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,94 @@
+package com.interview.benchmark;
+
+import com.interview.InterviewApplication;
+import com.interview.model.User;
+import com.interview.repository.UserRepository;
+import com.interview.service.UserImportService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Repository lookups from 16 threads against an in-memory H2 stand-in, comparing
+ * statement caching on and off (H2's per-session {@code QUERY_CACHE_SIZE}, in place of
+ * Connector/J's {@code cachePrepStmts}) and the core-derived pool size against an
+ * oversized one.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DataSourceTuningBenchmark {
+
+    private static final int USERS = 10_000;
+
+    @Param({"0", "256"})
+    private int statementCacheSize;
+
+    @Param({"derived", "64"})
+    private String poolSize;
+
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        List<String> properties = new ArrayList<>(List.of(
+                "spring.datasource.url=jdbc:h2:mem:tuning-bench;DB_CLOSE_DELAY=-1;QUERY_CACHE_SIZE=" + statementCacheSize,
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "logging.level.com.interview=INFO"));
+        if (!"derived".equals(poolSize)) {
+            properties.add("spring.datasource.hikari.maximum-pool-size=" + poolSize);
+        }
+        context = new SpringApplicationBuilder(InterviewApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(properties.toArray(String[]::new))
+                .run();
+        userRepository = context.getBean(UserRepository.class);
+        context.getBean(UserImportService.class).importUsers(IntStream.range(0, USERS)
+                .mapToObj(i -> new User("tuning-" + i, "tuning-" + i + "@example.com", "Tuning User " + i))
+                .iterator());
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Optional<User> findByUsername() {
+        return userRepository.findByUsername("tuning-" + ThreadLocalRandom.current().nextInt(USERS));
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(DataSourceTuningBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,110 @@
+package com.interview.benchmark;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import com.interview.logging.JsonLogEncoder;
+import com.interview.logging.LogBuffer;
+import com.interview.util.RequestContext;
+import com.interview.util.RequestContextHolder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.MDC;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding throughput of {@link JsonLogEncoder} against logback's {@link PatternLayoutEncoder},
+ * both with the application's current pattern and with a pattern carrying the same
+ * fields as the JSON output. Run with the GC profiler to compare allocation per event.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LogEncoderBenchmark {
+
+    private static final String APPLICATION_PATTERN = "%d{yyyy-MM-dd HH:mm:ss} [%thread] %-5level - %msg%n";
+    private static final String CONTEXT_PATTERN =
+            "%d{yyyy-MM-dd'T'HH:mm:ss.SSS'Z',UTC} %-5level %logger [%thread] user=%X{userId} session=%X{sessionId} - %msg%n";
+
+    private LoggerContext context;
+    private PatternLayoutEncoder applicationPattern;
+    private PatternLayoutEncoder contextPattern;
+    private JsonLogEncoder json;
+    private LoggingEvent event;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new LoggerContext();
+        context.setMDCAdapter(MDC.getMDCAdapter());
+        applicationPattern = pattern(APPLICATION_PATTERN);
+        contextPattern = pattern(CONTEXT_PATTERN);
+        json = new JsonLogEncoder();
+        json.setContext(context);
+        json.start();
+
+        Logger logger = context.getLogger("com.interview.service.LoggingService");
+        RequestContextHolder.setContext(new RequestContext("user-42", "session-42"));
+        event = new LoggingEvent(Logger.class.getName(), logger, ch.qos.logback.classic.Level.INFO,
+                "Operation {} completed successfully", null, new Object[]{"checkout"});
+        event.prepareForDeferredProcessing();
+        RequestContextHolder.clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public byte[] applicationPattern() {
+        return applicationPattern.encode(event);
+    }
+
+    @Benchmark
+    public byte[] contextPattern() {
+        return contextPattern.encode(event);
+    }
+
+    @Benchmark
+    public byte[] jsonBytes() {
+        return json.encode(event);
+    }
+
+    @Benchmark
+    public LogBuffer jsonBuffer() {
+        return json.encodeToBuffer(event);
+    }
+
+    private PatternLayoutEncoder pattern(String pattern) {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(pattern);
+        encoder.start();
+        return encoder;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(LogEncoderBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,116 @@
+package com.interview.benchmark;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.FileAppender;
+import com.interview.logging.AsyncBatchingAppender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caller-side latency of one {@code log.info} through logback's synchronous
+ * {@link FileAppender} versus {@link AsyncBatchingAppender} with each overflow policy.
+ * Latency percentiles come from {@link Mode#SampleTime}; drops are printed at teardown.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class LoggingPipelineBenchmark {
+
+    private static final String PATTERN = "%d{yyyy-MM-dd HH:mm:ss} [%thread] %-5level - %msg%n";
+
+    @Param({"SYNC", "ASYNC_DROP", "ASYNC_BLOCK"})
+    private String appender;
+
+    private LoggerContext context;
+    private Logger logger;
+    private AsyncBatchingAppender async;
+    private Path directory;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("logging-bench");
+        context = new LoggerContext();
+        context.setMDCAdapter(new LogbackMDCAdapter());
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+
+        logger = context.getLogger(LoggingPipelineBenchmark.class);
+        logger.setLevel(ch.qos.logback.classic.Level.INFO);
+        String file = directory.resolve("bench.log").toString();
+        if ("SYNC".equals(appender)) {
+            FileAppender<ILoggingEvent> sync = new FileAppender<>();
+            sync.setContext(context);
+            sync.setFile(file);
+            sync.setEncoder(encoder);
+            sync.start();
+            logger.addAppender(sync);
+        } else {
+            AsyncBatchingAppender batching = new AsyncBatchingAppender();
+            batching.setContext(context);
+            batching.setName("bench");
+            batching.setFile(file);
+            batching.setEncoder(encoder);
+            batching.setOverflowPolicy("ASYNC_DROP".equals(appender)
+                    ? AsyncBatchingAppender.OverflowPolicy.DROP
+                    : AsyncBatchingAppender.OverflowPolicy.BLOCK);
+            batching.start();
+            logger.addAppender(batching);
+            async = batching;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (async != null) {
+            System.out.printf("%n%s%n", async.getMetrics());
+        }
+        context.stop();
+        try (var files = Files.list(directory)) {
+            for (Path path : files.toList()) {
+                Files.delete(path);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public void logInfo() {
+        logger.info("Operation {} completed successfully", "benchmark-operation");
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(LoggingPipelineBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,70 @@
+package com.interview.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.interview.service.LoggingService;
+import com.interview.service.operation.OperationExecutorMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call overhead of {@link LoggingService} with no simulated latency, for each
+ * executor mode. The service's logger is switched off so appender I/O is excluded;
+ * {@link LoggingPipelineBenchmark} covers that.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoggingServiceBenchmark {
+
+    @Param({"TIMER", "VIRTUAL_THREADS"})
+    private OperationExecutorMode mode;
+
+    private LoggingService loggingService;
+
+    @Setup
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger(LoggingService.class)).setLevel(Level.OFF);
+        loggingService = new LoggingService(mode, Duration.ZERO);
+    }
+
+    @TearDown
+    public void tearDown() {
+        loggingService.shutdown();
+    }
+
+    @Benchmark
+    public void performOperation() {
+        loggingService.performOperation("benchmark");
+    }
+
+    @Benchmark
+    public void logAtDifferentLevels() {
+        loggingService.logAtDifferentLevels();
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(LoggingServiceBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
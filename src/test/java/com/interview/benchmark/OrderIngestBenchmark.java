@@ -0,0 +1,90 @@
+package com.interview.benchmark;
+
+import com.interview.model.OrderResult;
+import com.interview.service.ingest.OrderIngestQueue;
+import com.interview.service.sequence.AtomicSequencer;
+import com.interview.service.sequence.SequenceBlock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Throughput and latency of 16 threads placing single orders against a commit that costs
+ * about 100us and is serialized, like an fsync of one log. {@code windowMicros = -1}
+ * commits every order on its own; otherwise orders go through an {@link OrderIngestQueue}
+ * that waits up to {@code windowMicros} for a batch of up to 256 orders.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderIngestBenchmark {
+
+    private static final long COMMIT_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    @Param({"-1", "0", "200", "1000"})
+    private long windowMicros;
+
+    private final AtomicSequencer sequencer = new AtomicSequencer();
+    private OrderIngestQueue queue;
+
+    @Setup
+    public void setUp() {
+        if (windowMicros >= 0) {
+            queue = new OrderIngestQueue(sequencer::reserve, OrderIngestBenchmark::format,
+                    OrderIngestBenchmark::commit, 8192, 256, Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(windowMicros)));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (queue != null) {
+            queue.close();
+        }
+    }
+
+    @Benchmark
+    @Threads(16)
+    public OrderResult processOrder_16threads() throws Exception {
+        if (queue != null) {
+            return queue.process("benchmark");
+        }
+        SequenceBlock number = sequencer.reserve(1);
+        OrderResult result = new OrderResult(number.getFirst(), "benchmark", format(number.getFirst(), "benchmark"));
+        commit(List.of(result));
+        return result;
+    }
+
+    private static String format(long orderNumber, String customerName) {
+        return String.format("Order #%d for customer: %s", orderNumber, customerName);
+    }
+
+    private static synchronized void commit(List<OrderResult> orders) {
+        LockSupport.parkNanos(COMMIT_NANOS);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(OrderIngestBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,89 @@
+package com.interview.benchmark;
+
+import com.interview.service.CounterService;
+import com.interview.service.OrderProcessingService;
+import com.interview.service.sequence.BlockReservingSequencer;
+import com.interview.service.sequence.SequencerMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Order numbering through {@link OrderProcessingService} and {@link CounterService}
+ * under contention, for both sequencer modes. Unlike {@link SequencerBenchmark} the
+ * order benchmarks include the int conversion and order formatting every request pays.
+ * The counter restarts every iteration so a fast machine never runs past
+ * {@link Integer#MAX_VALUE} order numbers.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderNumberingBenchmark {
+
+    @Param({"ATOMIC", "BLOCK"})
+    private SequencerMode mode;
+
+    private CounterService counterService;
+    private OrderProcessingService orderProcessingService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        counterService = new CounterService(mode, BlockReservingSequencer.DEFAULT_BLOCK_SIZE);
+        orderProcessingService = new OrderProcessingService();
+        ReflectionTestUtils.setField(orderProcessingService, "counterService", counterService);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCounter() {
+        counterService.reset();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long counterNext_8threads() {
+        // next() rather than getNextValue(): a bare counter can pass 2^31 within one iteration
+        return counterService.next();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String processOrder_1thread() {
+        return orderProcessingService.processOrder("benchmark");
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String processOrder_8threads() {
+        return orderProcessingService.processOrder("benchmark");
+    }
+
+    @Benchmark
+    @Threads(64)
+    public String processOrder_64threads() {
+        return orderProcessingService.processOrder("benchmark");
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(OrderNumberingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,71 @@
+package com.interview.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interview.codec.ProductJsonCodec;
+import com.interview.model.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the streaming Product codec with reflective ObjectMapper databind.
+ * The GC profiler reports bytes allocated per operation as {@code gc.alloc.rate.norm}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductJsonBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private Product product;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws Exception {
+        product = new Product("PROD-123", "Sample Widget", new BigDecimal("29.99"), true);
+        json = objectMapper.writeValueAsBytes(product);
+    }
+
+    @Benchmark
+    public byte[] encodeObjectMapper() throws Exception {
+        return objectMapper.writeValueAsBytes(product);
+    }
+
+    @Benchmark
+    public byte[] encodeCodec() {
+        return ProductJsonCodec.toBytes(product);
+    }
+
+    @Benchmark
+    public Product decodeObjectMapper() throws Exception {
+        return objectMapper.readValue(json, Product.class);
+    }
+
+    @Benchmark
+    public Product decodeCodec() {
+        return ProductJsonCodec.fromBytes(json);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(ProductJsonBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,98 @@
+package com.interview.benchmark;
+
+import com.interview.catalog.ProductStore;
+import com.interview.model.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Point lookups and price range scans on a {@link ProductStore} holding {@code products}
+ * entries, with a pending delta of recent writes. Range scans pass each match to a
+ * consumer, so with the GC profiler {@code gc.alloc.rate.norm} shows what the scan itself
+ * allocates. Needs a large heap at 10M products.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+@State(Scope.Benchmark)
+public class ProductStoreBenchmark {
+
+    // Prices spread over 0.00-9999.99, so a 1.00 range holds about products / 1M entries
+    private static final int PRICE_CENTS = 1_000_000;
+    private static final int RECENT_WRITES = 1_000;
+
+    @Param({"10000000"})
+    private int products;
+
+    private ProductStore store;
+    private BigDecimal[] prices;
+    private String[] ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        prices = new BigDecimal[PRICE_CENTS];
+        for (int i = 0; i < PRICE_CENTS; i++) {
+            prices[i] = BigDecimal.valueOf(i, 2);
+        }
+        ids = new String[products];
+        List<Product> source = new ArrayList<>(products);
+        for (int i = 0; i < products; i++) {
+            ids[i] = "P" + i;
+            source.add(new Product(ids[i], "Benchmark Product", prices[(int) (i * 7919L % PRICE_CENTS)], i % 4 != 0));
+        }
+        store = new ProductStore(16_384);
+        store.putAll(source);
+        source.clear();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < RECENT_WRITES; i++) {
+            store.put(new Product(ids[random.nextInt(products)], "Updated Product",
+                    prices[random.nextInt(PRICE_CENTS)], true));
+        }
+    }
+
+    @Benchmark
+    public Product pointLookup() {
+        return store.get(ids[ThreadLocalRandom.current().nextInt(products)]);
+    }
+
+    @Benchmark
+    public int rangeScan(Blackhole blackhole) {
+        int from = ThreadLocalRandom.current().nextInt(PRICE_CENTS - 100);
+        return store.forEachInRange(prices[from], prices[from + 100], Boolean.TRUE, 100, blackhole::consume);
+    }
+
+    @Benchmark
+    public List<Product> rangeQuery() {
+        int from = ThreadLocalRandom.current().nextInt(PRICE_CENTS - 100);
+        return store.findInRange(prices[from], prices[from + 100], Boolean.TRUE, 100);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(ProductStoreBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,65 @@
+package com.interview.benchmark;
+
+import com.interview.util.RequestContext;
+import com.interview.util.RequestContextHolder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the per-request context lifecycle: set, get and clear on the holder
+ * (including the MDC mirror), and the scoped {@link RequestContextHolder#bind} form.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RequestContextHolderBenchmark {
+
+    private RequestContext context;
+
+    @Setup
+    public void setUp() {
+        context = new RequestContext("user-42", "session-42");
+        RequestContextHolder.clear();
+    }
+
+    @Benchmark
+    public RequestContext get() {
+        return RequestContextHolder.getContext();
+    }
+
+    @Benchmark
+    public RequestContext setGetClear() {
+        RequestContextHolder.setContext(context);
+        RequestContext current = RequestContextHolder.getContext();
+        RequestContextHolder.clear();
+        return current;
+    }
+
+    @Benchmark
+    public RequestContext bindAndClose() {
+        try (RequestContextHolder.Binding ignored = RequestContextHolder.bind(context)) {
+            return RequestContextHolder.getContext();
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(RequestContextHolderBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
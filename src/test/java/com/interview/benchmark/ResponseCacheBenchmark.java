@@ -0,0 +1,100 @@
+package com.interview.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interview.catalog.ProductStore;
+import com.interview.codec.ProductCodecModule;
+import com.interview.config.ResponseCacheFilter;
+import com.interview.controller.ProductController;
+import com.interview.model.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Server-side cost of a repeated {@code GET /api/products/{id}} through
+ * {@link ResponseCacheFilter} and {@link ProductController} (MockMvc, so no network):
+ * rendering every time (the query string bypasses the cache), writing the cached bytes,
+ * and answering {@code If-None-Match} with a 304. Body sizes are printed once per trial
+ * since JMH only reports times.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseCacheBenchmark {
+
+    private static final String PATH = "/api/products/PROD-000123";
+
+    private MockMvc mvc;
+    private String etag;
+
+    @Setup
+    public void setUp() throws Exception {
+        ProductStore store = new ProductStore(16_384);
+        store.put(new Product("PROD-000123", "Sample Widget, large", new BigDecimal("1299.99"), true));
+        ObjectMapper mapper = new ObjectMapper().registerModule(new ProductCodecModule());
+        ProductController controller = new ProductController();
+        ReflectionTestUtils.setField(controller, "productStore", store);
+        ReflectionTestUtils.setField(controller, "objectMapper", mapper);
+        mvc = MockMvcBuilders.standaloneSetup(controller)
+                .setMessageConverters(new MappingJackson2HttpMessageConverter(mapper))
+                .addFilters(new ResponseCacheFilter(store, null, 1 << 20, Duration.ofMinutes(5)))
+                .build();
+        MockHttpServletResponse first = perform(get(PATH));
+        etag = first.getHeader(HttpHeaders.ETAG);
+        System.out.printf("%nrendered body: %d bytes, 304 body: %d bytes%n", first.getContentAsByteArray().length,
+                perform(get(PATH).header(HttpHeaders.IF_NONE_MATCH, etag)).getContentAsByteArray().length);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse uncached() throws Exception {
+        return perform(get(PATH + "?render"));
+    }
+
+    @Benchmark
+    public MockHttpServletResponse cached() throws Exception {
+        return perform(get(PATH));
+    }
+
+    @Benchmark
+    public MockHttpServletResponse notModified() throws Exception {
+        return perform(get(PATH).header(HttpHeaders.IF_NONE_MATCH, etag));
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequestBuilder request) throws Exception {
+        return mvc.perform(request.accept(MediaType.APPLICATION_JSON)).andReturn().getResponse();
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(ResponseCacheBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,66 @@
+package com.interview.benchmark;
+
+import com.interview.service.sequence.Sequencer;
+import com.interview.service.sequence.SequencerMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the ATOMIC and BLOCK sequencer modes at 1, 8 and 64 threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SequencerBenchmark {
+
+    @Param({"ATOMIC", "BLOCK"})
+    private SequencerMode mode;
+
+    private Sequencer sequencer;
+
+    @Setup
+    public void setUp() {
+        sequencer = mode.create(1024);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long next_1thread() {
+        return sequencer.next();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long next_8threads() {
+        return sequencer.next();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public long next_64threads() {
+        return sequencer.next();
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(SequencerBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,70 @@
+package com.interview.benchmark;
+
+import com.interview.metrics.ServiceTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares recording through a pre-resolved {@link ServiceTimer} with looking the
+ * timer up by name and tags on every call, and with {@link Timer.Sample}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ServiceTimerBenchmark {
+
+    private MeterRegistry registry;
+    private ServiceTimer serviceTimer;
+
+    @Setup
+    public void setup() {
+        registry = new SimpleMeterRegistry();
+        serviceTimer = ServiceTimer.of(registry, "OrderProcessingService", "processOrder");
+    }
+
+    @Benchmark
+    public void preResolved() {
+        serviceTimer.stop(serviceTimer.start(), true);
+    }
+
+    @Benchmark
+    public void lookupPerCall() {
+        long start = System.nanoTime();
+        registry.timer(ServiceTimer.METRIC, "service", "OrderProcessingService",
+                        "method", "processOrder", "outcome", "SUCCESS")
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    @Benchmark
+    public void sample() {
+        Timer.Sample sample = Timer.start(registry);
+        sample.stop(registry.timer(ServiceTimer.METRIC, "service", "OrderProcessingService",
+                "method", "processOrder", "outcome", "SUCCESS"));
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(ServiceTimerBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
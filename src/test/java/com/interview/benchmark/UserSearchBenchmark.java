@@ -0,0 +1,90 @@
+package com.interview.benchmark;
+
+import com.interview.InterviewApplication;
+import com.interview.model.User;
+import com.interview.repository.UserRepository;
+import com.interview.search.UserSearchService;
+import com.interview.service.UserImportService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Compares the trigram-backed email search against the {@code LIKE '%...%'} repository
+ * query over {@code users} rows in an in-memory H2 database.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@State(Scope.Benchmark)
+public class UserSearchBenchmark {
+
+    @Param({"1000000"})
+    private int users;
+
+    @Param({"bench-12345@"})
+    private String query;
+
+    private ConfigurableApplicationContext context;
+    private UserSearchService userSearchService;
+    private UserRepository userRepository;
+
+    @Setup(Level.Trial)
+    public void startApplication() throws Exception {
+        context = new SpringApplicationBuilder(InterviewApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:search-bench;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "logging.level.com.interview=INFO")
+                .run();
+        userRepository = context.getBean(UserRepository.class);
+        userSearchService = context.getBean(UserSearchService.class);
+        context.getBean(UserImportService.class).importUsers(IntStream.range(0, users)
+                .mapToObj(i -> new User("bench-" + i, "bench-" + i + "@example.com", "Bench User " + i))
+                .iterator());
+        userSearchService.scheduleRebuild().get();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<User> trigramIndex() {
+        return userSearchService.findByEmailContaining(query);
+    }
+
+    @Benchmark
+    public List<User> likeQuery() {
+        return userRepository.findByEmailContaining(query);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(UserSearchBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
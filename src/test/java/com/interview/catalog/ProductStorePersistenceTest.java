@@ -0,0 +1,220 @@
+package com.interview.catalog;
+
+import com.interview.model.Product;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the snapshot and change log behind a persistent {@link ProductStore}.
+ */
+class ProductStorePersistenceTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testRestoresProductsFromSnapshot() {
+        ProductStore store = open(16, 1_000);
+        store.put(product("A", "10.00", true));
+        store.put(new Product("B", null, price("20.5"), null));
+        store.put(product("C", "30.000", false));
+        store.remove("C");
+        store.close();
+
+        ProductStore reopened = open(16, 1_000);
+        assertEquals(2, reopened.size());
+        assertEquals(List.of("A", "B"), ids(reopened.findInRange(null, null, null, 100)));
+        Product b = reopened.get("B");
+        assertEquals(price("20.5"), b.getPrice());
+        assertEquals(1, b.getPrice().scale());
+        assertNull(b.getProductName());
+        assertNull(b.getActive());
+        assertEquals("Product A", reopened.get("A").getProductName());
+        assertNull(reopened.get("C"));
+        assertEquals(List.of("A"), ids(reopened.findInRange(null, null, true, 100)));
+        reopened.close();
+    }
+
+    @Test
+    void testReplaysLogWrittenSinceSnapshot() throws IOException {
+        ProductStore store = open(16, 1_000);
+        store.put(product("A", "10.00", true));
+        store.put(product("B", "20.00", true));
+        store.checkpoint();
+        assertEquals(0, Files.size(directory.resolve(ProductStore.LOG_FILE)));
+
+        store.put(product("A", "25.00", false));
+        assertTrue(store.remove("B"));
+        store.put(product("C", "5.00", true));
+        // No close: the next store sees what a crash would leave behind
+
+        ProductStore reopened = open(16, 1_000);
+        assertEquals(List.of("C", "A"), ids(reopened.findInRange(null, null, null, 100)));
+        assertEquals(price("25.00"), reopened.get("A").getPrice());
+        assertNull(reopened.get("B"));
+        assertEquals(2, reopened.size());
+    }
+
+    @Test
+    void testDropsTornFrameAtEndOfLog() throws IOException {
+        ProductStore store = open(16, 1_000);
+        store.put(product("A", "10.00", true));
+        store.put(product("B", "20.00", true));
+        Path log = directory.resolve(ProductStore.LOG_FILE);
+        long complete = Files.size(log);
+        Files.write(log, new byte[]{0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        ProductStore reopened = open(16, 1_000);
+        assertEquals(List.of("A", "B"), ids(reopened.findInRange(null, null, null, 100)));
+        assertEquals(complete, Files.size(log));
+
+        reopened.put(product("C", "30.00", true));
+        assertEquals(List.of("A", "B", "C"), ids(open(16, 1_000).findInRange(null, null, null, 100)));
+    }
+
+    @Test
+    void testMatchesBruteForceAcrossCheckpointsAndRestarts() {
+        ProductStore store = open(8, 64);
+        Map<String, Product> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 5_000; i++) {
+            String id = "P" + random.nextInt(500);
+            if (random.nextInt(10) == 0) {
+                assertEquals(expected.remove(id) != null, store.remove(id));
+            } else {
+                Product product = product(id, random.nextInt(10_000) + "." + random.nextInt(100), random.nextBoolean());
+                store.put(product);
+                expected.put(id, product);
+            }
+            if (i % 1_000 == 999) {
+                store = open(8, 64);
+            }
+            if (i % 250 == 0) {
+                BigDecimal min = BigDecimal.valueOf(random.nextInt(5_000));
+                BigDecimal max = min.add(BigDecimal.valueOf(random.nextInt(5_000)));
+                Boolean active = random.nextBoolean() ? null : random.nextBoolean();
+                assertEquals(bruteForce(expected, min, max, active), prices(store.findInRange(min, max, active, 10_000)));
+                assertEquals(expected.size(), store.size());
+                String lookup = "P" + random.nextInt(500);
+                assertEquals(expected.containsKey(lookup), store.get(lookup) != null);
+            }
+        }
+        store.close();
+        assertEquals(expected.size(), open(8, 64).size());
+    }
+
+    @Test
+    void testReadersNeverSeeDuplicatesAcrossCheckpoints() throws Exception {
+        ProductStore store = open(16, 128);
+        for (int i = 0; i < 1_000; i++) {
+            store.put(product("P" + i, String.valueOf(i), true));
+        }
+        store.checkpoint();
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<String> failure = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            Random random = new Random(3);
+            while (running.get()) {
+                List<Product> all = store.findInRange(null, null, null, 10_000);
+                if (all.size() != 1_000 || all.stream().map(Product::getProductId).distinct().count() != 1_000) {
+                    failure.set("saw " + all.size() + " products");
+                }
+                if (store.get("P" + random.nextInt(1_000)) == null) {
+                    failure.set("lookup missed a product");
+                }
+            }
+        });
+        reader.start();
+        Random random = new Random(7);
+        for (int i = 0; i < 5_000; i++) {
+            store.put(product("P" + random.nextInt(1_000), String.valueOf(random.nextInt(1_000)), true));
+        }
+        running.set(false);
+        reader.join();
+
+        assertNull(failure.get());
+    }
+
+    @Test
+    void testRestoresStringsLongerThan64KB() {
+        String id = "P-" + "\u00e9".repeat(40_000);
+        String name = "\u20ac".repeat(30_000);
+        ProductStore store = open(16, 1_000);
+        store.put(new Product(id, name, price("10.00"), true));
+
+        ProductStore replayed = open(16, 1_000);
+        assertEquals(name, replayed.get(id).getProductName());
+        replayed.checkpoint();
+        replayed.close();
+
+        ProductStore restored = open(16, 1_000);
+        assertEquals(name, restored.get(id).getProductName());
+        restored.close();
+    }
+
+    @Test
+    void testRejectsPricesTheSnapshotCannotHold() throws IOException {
+        ProductStore store = open(16, 1_000);
+        Product tooPrecise = product("A", "1." + "0".repeat(40) + "1", true);
+
+        assertThrows(IllegalArgumentException.class, () -> store.put(tooPrecise));
+        assertNull(store.get("A"));
+        assertEquals(0, Files.size(directory.resolve(ProductStore.LOG_FILE)));
+    }
+
+    @Test
+    void testCheckpointNeedsPersistence() {
+        ProductStore store = new ProductStore(16);
+        assertThrows(IllegalStateException.class, store::checkpoint);
+        store.close();
+    }
+
+    private ProductStore open(int deltaLimit, int checkpointLimit) {
+        return new ProductStore(deltaLimit, directory.toString(), checkpointLimit, false);
+    }
+
+    private static List<String> bruteForce(Map<String, Product> products, BigDecimal min, BigDecimal max,
+                                           Boolean active) {
+        return products.values().stream()
+                .filter(p -> p.getPrice().compareTo(min) >= 0 && p.getPrice().compareTo(max) <= 0)
+                .filter(p -> active == null || active.equals(p.getActive()))
+                .sorted(Comparator.comparing(Product::getPrice))
+                .map(p -> p.getPrice().toPlainString())
+                .toList();
+    }
+
+    private static List<String> prices(List<Product> products) {
+        return products.stream().map(p -> p.getPrice().toPlainString()).toList();
+    }
+
+    private static List<String> ids(List<Product> products) {
+        return products.stream().map(Product::getProductId).toList();
+    }
+
+    private static Product product(String id, String price, boolean active) {
+        return new Product(id, "Product " + id, price(price), active);
+    }
+
+    private static BigDecimal price(String price) {
+        return new BigDecimal(price);
+    }
+}
@@ -0,0 +1,87 @@
+package com.interview.catalog;
+
+import com.interview.model.Product;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Time until a {@link ProductStore} of {@code startuptest.products} products (default 5M)
+ * answers its first point lookup and range query: cold, rebuilding every product in
+ * memory, against warm, mapping the snapshot a previous run left behind.
+ * <p>
+ * Opt-in and needs a large heap for the cold store:
+ * {@code mvn test -Dtest=ProductStoreStartupTest -Dstartuptest=true -DargLine=-Xmx3g}.
+ */
+@EnabledIfSystemProperty(named = "startuptest", matches = "true")
+class ProductStoreStartupTest {
+
+    private static final int PRODUCTS = Integer.getInteger("startuptest.products", 5_000_000);
+    private static final BigDecimal MIN = new BigDecimal("500.00");
+    private static final BigDecimal MAX = new BigDecimal("500.99");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void measureColdAndWarmStartup() throws Exception {
+        long started = System.nanoTime();
+        ProductStore cold = new ProductStore(16_384);
+        cold.putAll(products());
+        int coldMatches = firstQueries(cold);
+        long coldNanos = System.nanoTime() - started;
+        cold = null;
+
+        started = System.nanoTime();
+        ProductStore writer = new ProductStore(16_384, directory.toString(), PRODUCTS, false);
+        writer.putAll(products());
+        writer.close();
+        long persistNanos = System.nanoTime() - started;
+        writer = null;
+        System.gc();
+
+        started = System.nanoTime();
+        ProductStore warm = new ProductStore(16_384, directory.toString(), PRODUCTS, false);
+        int warmMatches = firstQueries(warm);
+        long warmNanos = System.nanoTime() - started;
+
+        System.out.printf("%,d products: cold start %,d ms, warm start %,d ms (snapshot %,d MB, written in %,d ms)%n",
+                PRODUCTS, coldNanos / 1_000_000, warmNanos / 1_000_000,
+                Files.size(directory.resolve(ProductStore.SNAPSHOT_FILE)) >> 20, persistNanos / 1_000_000);
+        assertEquals(PRODUCTS, warm.size());
+        assertEquals(coldMatches, warmMatches);
+        assertTrue(warmNanos < coldNanos, "warm start was not faster than cold");
+        warm.close();
+    }
+
+    private static int firstQueries(ProductStore store) {
+        assertNotNull(store.get("PROD-" + (PRODUCTS / 2)));
+        return store.findInRange(MIN, MAX, true, 1_000).size();
+    }
+
+    // Generated as the store copies them, so only the stored products take up heap
+    private static List<Product> products() {
+        return new AbstractList<>() {
+            @Override
+            public Product get(int index) {
+                return new Product("PROD-" + index, "Product " + index,
+                        BigDecimal.valueOf(index * 7919L % 1_000_000, 2), index % 4 != 0);
+            }
+
+            @Override
+            public int size() {
+                return PRODUCTS;
+            }
+        };
+    }
+}
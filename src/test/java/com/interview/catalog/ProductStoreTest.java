@@ -0,0 +1,196 @@
+package com.interview.catalog;
+
+import com.interview.model.Product;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests point lookups and price range scans of {@link ProductStore}.
+ */
+class ProductStoreTest {
+
+    @Test
+    void testRangeIsInclusiveAndOrderedByPrice() {
+        ProductStore store = new ProductStore(16);
+        store.put(product("B", "20.00", true));
+        store.put(product("A", "10.00", true));
+        store.put(product("C", "30.00", false));
+        store.put(product("D", "40.00", true));
+
+        assertEquals(List.of("A", "B", "C"), ids(store.findInRange(price("10"), price("30"), null, 100)));
+        assertEquals(List.of("B", "D"), ids(store.findInRange(price("15"), null, true, 100)));
+        assertEquals(List.of("C"), ids(store.findInRange(null, null, false, 100)));
+        assertEquals(List.of("A", "B"), ids(store.findInRange(null, null, null, 2)));
+    }
+
+    @Test
+    void testReplaceAndRemove() {
+        ProductStore store = new ProductStore(16);
+        store.put(product("A", "10.00", true));
+        store.put(product("B", "20.00", true));
+
+        store.put(product("A", "25.00", true));
+        assertEquals(List.of("B", "A"), ids(store.findInRange(null, null, null, 100)));
+        assertEquals(price("25.00"), store.get("A").getPrice());
+
+        assertTrue(store.remove("B"));
+        assertFalse(store.remove("B"));
+        assertNull(store.get("B"));
+        assertEquals(List.of("A"), ids(store.findInRange(null, null, null, 100)));
+    }
+
+    @Test
+    void testStoresCopies() {
+        ProductStore store = new ProductStore(16);
+        Product original = product("A", "10.00", true);
+        store.put(original);
+        original.setPrice(price("99.00"));
+
+        assertEquals(price("10.00"), store.get("A").getPrice());
+    }
+
+    @Test
+    void testMatchesBruteForceAcrossDeltaMerges() {
+        ProductStore store = new ProductStore(8);
+        Map<String, Product> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 5_000; i++) {
+            String id = "P" + random.nextInt(500);
+            if (random.nextInt(10) == 0) {
+                store.remove(id);
+                expected.remove(id);
+            } else {
+                Product product = product(id, random.nextInt(10_000) + "." + random.nextInt(100), random.nextBoolean());
+                store.put(product);
+                expected.put(id, product);
+            }
+            if (i % 250 == 0) {
+                BigDecimal min = BigDecimal.valueOf(random.nextInt(5_000));
+                BigDecimal max = min.add(BigDecimal.valueOf(random.nextInt(5_000)));
+                Boolean active = random.nextBoolean() ? null : random.nextBoolean();
+                assertEquals(bruteForce(expected, min, max, active), prices(store.findInRange(min, max, active, 10_000)));
+            }
+        }
+        assertEquals(expected.size(), store.size());
+    }
+
+    @Test
+    void testReadersNeverSeeDuplicatesDuringWrites() throws Exception {
+        ProductStore store = new ProductStore(64);
+        for (int i = 0; i < 1_000; i++) {
+            store.put(product("P" + i, String.valueOf(i), true));
+        }
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<String> failure = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            while (running.get()) {
+                List<Product> all = store.findInRange(null, null, null, 10_000);
+                if (all.size() != 1_000 || all.stream().map(Product::getProductId).distinct().count() != 1_000) {
+                    failure.set("saw " + all.size() + " products");
+                }
+            }
+        });
+        reader.start();
+        Random random = new Random(7);
+        for (int i = 0; i < 20_000; i++) {
+            store.put(product("P" + random.nextInt(1_000), String.valueOf(random.nextInt(1_000)), true));
+        }
+        running.set(false);
+        reader.join();
+
+        assertNull(failure.get());
+    }
+
+    @Test
+    void testRangeScanDoesNotAllocate() {
+        ProductStore store = new ProductStore(1024);
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            products.add(product("P" + i, (i % 10_000) + ".99", i % 3 != 0));
+        }
+        store.putAll(products);
+        BigDecimal min = price("100");
+        BigDecimal max = price("200");
+        long[] sum = new long[1];
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+
+        for (int i = 0; i < 2_000; i++) {
+            store.forEachInRange(min, max, Boolean.TRUE, 1_000, product -> sum[0]++);
+        }
+        long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < 1_000; i++) {
+            store.forEachInRange(min, max, Boolean.TRUE, 1_000, product -> sum[0]++);
+        }
+        long allocated = threads.getThreadAllocatedBytes(thread) - before;
+
+        // Only the cents conversion of the two bounds allocates, well under 1 KB per scan
+        assertTrue(allocated < 1_000 * 1_024, "allocated " + allocated + " bytes for 1000 scans");
+        assertTrue(sum[0] > 0);
+    }
+
+    @Test
+    void testSingleWritesToALargeStoreStayCheap() {
+        ProductStore store = new ProductStore(16_384);
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            products.add(product("P" + i, i + ".99", true));
+        }
+        store.putAll(products);
+        Random random = new Random(11);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+
+        long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < 5_000; i++) {
+            store.put(product("P" + random.nextInt(100_000), random.nextInt(100_000) + ".50", true));
+        }
+        long perWrite = (threads.getThreadAllocatedBytes(thread) - before) / 5_000;
+
+        // Copying a delta of thousands of entries on every write costs hundreds of KB each
+        assertTrue(perWrite < 64 * 1_024, "allocated " + perWrite + " bytes per write");
+        assertEquals(100_000, store.size());
+    }
+
+    private static List<String> bruteForce(Map<String, Product> products, BigDecimal min, BigDecimal max,
+                                           Boolean active) {
+        return products.values().stream()
+                .filter(p -> p.getPrice().compareTo(min) >= 0 && p.getPrice().compareTo(max) <= 0)
+                .filter(p -> active == null || active.equals(p.getActive()))
+                .sorted(Comparator.comparing(Product::getPrice))
+                .map(p -> p.getPrice().toPlainString())
+                .toList();
+    }
+
+    private static List<String> prices(List<Product> products) {
+        return products.stream().map(p -> p.getPrice().toPlainString()).toList();
+    }
+
+    private static List<String> ids(List<Product> products) {
+        return products.stream().map(Product::getProductId).toList();
+    }
+
+    private static Product product(String id, String price, boolean active) {
+        return new Product(id, "Product " + id, price(price), active);
+    }
+
+    private static BigDecimal price(String price) {
+        return new BigDecimal(price);
+    }
+}
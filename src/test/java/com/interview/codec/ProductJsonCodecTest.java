@@ -0,0 +1,137 @@
+package com.interview.codec;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interview.model.Product;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that the streaming codec matches the reflective Jackson wire format exactly.
+ */
+class ProductJsonCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testEncodingMatchesObjectMapper() throws Exception {
+        Product product = new Product("PROD-123", "Test \"Widget\"", new BigDecimal("29.99"), true);
+
+        String expected = objectMapper.writeValueAsString(product);
+        String actual = new String(ProductJsonCodec.toBytes(product), StandardCharsets.UTF_8);
+
+        assertEquals(expected, actual);
+        assertEquals("{\"product_id\":\"PROD-123\",\"product_name\":\"Test \\\"Widget\\\"\",\"price\":29.99,\"is_active\":true}",
+                actual);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "0.05", "-0.05", "15.50", "-1234.5678", "100", "999999999999999999",
+            "0.000000000000000001", "1E+3", "12345678901234567890.12", "1.0000000000000000000001"})
+    void testPriceRoundTripKeepsValueAndScale(String price) throws Exception {
+        Product original = new Product("P", "N", new BigDecimal(price), false);
+
+        byte[] json = ProductJsonCodec.toBytes(original);
+        Product decoded = ProductJsonCodec.fromBytes(json);
+
+        assertEquals(original.getPrice(), decoded.getPrice());
+        assertEquals(objectMapper.writeValueAsString(original), new String(json, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testPricesWithUpTo15DigitsMatchObjectMapper() throws Exception {
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            long unscaled = random.nextLong() % 1_000_000_000_000_000L;
+            Product product = new Product("P", "N",
+                    BigDecimal.valueOf(unscaled >> random.nextInt(50), random.nextInt(16)), false);
+
+            String json = new String(ProductJsonCodec.toBytes(product), StandardCharsets.UTF_8);
+
+            assertEquals(objectMapper.writeValueAsString(product), json);
+        }
+    }
+
+    @Test
+    void testWritingPricesDoesNotAllocate() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(1 << 20);
+        JsonGenerator generator = new JsonFactory().createGenerator(out);
+        BigDecimal[] prices = {new BigDecimal("29.99"), new BigDecimal("-1234.5678"), new BigDecimal("100"),
+                new BigDecimal("0.000000000000001"), new BigDecimal("999999999999999")};
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+
+        // Short warm-up: escape analysis in fully compiled code could hide a per-price allocation
+        for (int i = 0; i < 100; i++) {
+            ProductJsonCodec.writePrice(prices[i % prices.length], generator);
+        }
+        generator.flush();
+        out.reset();
+        long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < 10_000; i++) {
+            ProductJsonCodec.writePrice(prices[i % prices.length], generator);
+        }
+        long allocated = threads.getThreadAllocatedBytes(thread) - before;
+        generator.flush();
+
+        // A BigDecimal or char[] per price would be well over 100 KB here
+        assertTrue(allocated < 32 * 1_024, "allocated " + allocated + " bytes for 10000 prices");
+    }
+
+    @Test
+    void testDecodingSkipsUnknownAndNullFields() {
+        String json = """
+                {"product_id": "PROD-456", "extra": {"nested": [1, 2]}, "product_name": null,
+                 "price": 19, "is_active": false}
+                """;
+
+        Product product = ProductJsonCodec.fromBytes(json.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals("PROD-456", product.getProductId());
+        assertNull(product.getProductName());
+        assertEquals(new BigDecimal("19"), product.getPrice());
+        assertEquals(false, product.getActive());
+    }
+
+    @Test
+    void testMalformedStringPriceIsAParseError() {
+        byte[] json = "{\"product_id\":\"P\",\"price\":\"abc\"}".getBytes(StandardCharsets.UTF_8);
+
+        UncheckedIOException error = assertThrows(UncheckedIOException.class, () -> ProductJsonCodec.fromBytes(json));
+
+        assertInstanceOf(JsonParseException.class, error.getCause());
+        assertEquals(new BigDecimal("12.50"),
+                ProductJsonCodec.fromBytes("{\"price\":\"12.50\"}".getBytes(StandardCharsets.UTF_8)).getPrice());
+    }
+
+    @Test
+    void testModuleIgnoresNamingStrategy() throws Exception {
+        ObjectMapper snakeCase = new ObjectMapper()
+                .setPropertyNamingStrategy(com.fasterxml.jackson.databind.PropertyNamingStrategies.SNAKE_CASE)
+                .registerModule(new ProductCodecModule());
+        Product product = new Product("PROD-789", "Round Trip Widget", new BigDecimal("15.50"), true);
+
+        String json = snakeCase.writeValueAsString(product);
+        Product decoded = snakeCase.readValue(json, Product.class);
+
+        assertEquals(objectMapper.writeValueAsString(product), json);
+        assertEquals(product.getPrice(), decoded.getPrice());
+        assertEquals(product.getActive(), decoded.getActive());
+    }
+}
@@ -0,0 +1,40 @@
+package com.interview.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests pool sizing from the core count.
+ */
+class HikariPoolSizingTest {
+
+    @Test
+    void testSizeFromCores() {
+        assertEquals(3, HikariPoolSizing.poolSize(1, 2, 1));
+        assertEquals(17, HikariPoolSizing.poolSize(8, 2, 1));
+        assertEquals(32, HikariPoolSizing.poolSize(16, 2, 0));
+        assertThrows(IllegalArgumentException.class, () -> HikariPoolSizing.poolSize(0, 2, 1));
+    }
+
+    @Test
+    void testSizesUnconfiguredPool() {
+        HikariPoolSizing sizing = new HikariPoolSizing(4, 2, 1);
+        try (HikariDataSource dataSource = new HikariDataSource()) {
+            sizing.postProcessBeforeInitialization(dataSource, "dataSource");
+            assertEquals(9, dataSource.getMaximumPoolSize());
+        }
+    }
+
+    @Test
+    void testKeepsExplicitPoolSize() {
+        HikariPoolSizing sizing = new HikariPoolSizing(4, 2, 1);
+        try (HikariDataSource dataSource = new HikariDataSource()) {
+            dataSource.setMaximumPoolSize(5);
+            sizing.postProcessBeforeInitialization(dataSource, "dataSource");
+            assertEquals(5, dataSource.getMaximumPoolSize());
+        }
+    }
+}
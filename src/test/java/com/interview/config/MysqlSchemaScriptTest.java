@@ -0,0 +1,55 @@
+package com.interview.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests that {@code schema-mysql.sql}, which runs on every startup with the db profile,
+ * seeds {@code users_seq} once, against H2 in MySQL mode.
+ */
+class MysqlSchemaScriptTest {
+
+    private final DataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:schema-mysql;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+    private final JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+
+    @BeforeEach
+    void setUp() {
+        jdbc.execute("DROP TABLE IF EXISTS users_seq");
+        jdbc.execute("DROP TABLE IF EXISTS users");
+        jdbc.execute("CREATE TABLE users (id BIGINT AUTO_INCREMENT PRIMARY KEY, username VARCHAR(255))");
+    }
+
+    @Test
+    void testSeedsSequenceAboveExistingIdsOnce() {
+        jdbc.update("INSERT INTO users (id, username) VALUES (9, 'existing')");
+
+        runScript();
+        runScript();
+        jdbc.update("INSERT INTO users (id, username) VALUES (500, 'later')");
+        runScript();
+
+        assertEquals(List.of(59L), jdbc.queryForList("SELECT next_val FROM users_seq", Long.class));
+    }
+
+    @Test
+    void testSeedsEmptyTable() {
+        runScript();
+        runScript();
+
+        assertEquals(List.of(50L), jdbc.queryForList("SELECT next_val FROM users_seq", Long.class));
+    }
+
+    private void runScript() {
+        new ResourceDatabasePopulator(new ClassPathResource("schema-mysql.sql")).execute(dataSource);
+    }
+}
@@ -0,0 +1,80 @@
+package com.interview.config;
+
+import com.interview.model.User;
+import com.interview.repository.UserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that repository queries run on the replica and writes on the primary, using two
+ * separate H2 databases so each side can see only its own rows.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+        "datasource.replica.url=jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1;INIT=CREATE TABLE IF NOT EXISTS users "
+                + "(id BIGINT PRIMARY KEY, username VARCHAR(255) NOT NULL UNIQUE, email VARCHAR(255) NOT NULL, "
+                + "full_name VARCHAR(255), created_at TIMESTAMP(6), is_active BOOLEAN)",
+        "datasource.replica.username=sa"
+})
+class ReadReplicaRoutingTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private HikariDataSource primary;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private HikariDataSource replica;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        JdbcTemplate replicaJdbc = new JdbcTemplate(replica);
+        replicaJdbc.update("DELETE FROM users");
+        replicaJdbc.update("INSERT INTO users (id, username, email, is_active) "
+                + "VALUES (1, 'replica-user', 'replica@example.com', TRUE)");
+    }
+
+    @Test
+    void testQueriesReadFromReplica() {
+        assertTrue(userRepository.findByUsername("replica-user").isPresent());
+        assertEquals(1, userRepository.findByEmailContaining("replica@").size());
+    }
+
+    @Test
+    void testWritesGoToPrimary() {
+        User saved = userRepository.save(new User("primary-user", "primary@example.com", "Primary User"));
+
+        Integer onPrimary = new JdbcTemplate(primary).queryForObject(
+                "SELECT COUNT(*) FROM users WHERE username = 'primary-user'", Integer.class);
+        assertEquals(1, onPrimary);
+        // Not replicated, so a read-only lookup does not see it
+        assertTrue(userRepository.findByUsername("primary-user").isEmpty());
+
+        userRepository.delete(saved);
+    }
+
+    @Test
+    void testBothPoolsReportWaitTime() {
+        userRepository.findByUsername("replica-user");
+        userRepository.count();
+
+        assertNotNull(meterRegistry.find("hikaricp.connections.acquire").tag("pool", "primary").timer());
+        assertNotNull(meterRegistry.find("hikaricp.connections.acquire").tag("pool", "replica").timer());
+    }
+}
@@ -0,0 +1,58 @@
+package com.interview.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that endpoint and service timings are published through the actuator metrics endpoint.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "management.metrics.tags.test=metrics-endpoint")
+@ActiveProfiles("unit")
+class MetricsEndpointTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testPublishesRequestAndServiceTimers() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            restTemplate.postForEntity("/api/orders/process?customerName=metrics", null, String.class);
+        }
+
+        JsonNode requests = metric("http.server.requests?tag=uri:/api/orders/process&tag=outcome:SUCCESS");
+        assertEquals(3.0, measurement(requests, "COUNT"));
+
+        JsonNode service = metric(
+                "service.calls?tag=service:OrderProcessingService&tag=method:processOrder&tag=outcome:SUCCESS");
+        assertEquals(3.0, measurement(service, "COUNT"));
+        assertTrue(measurement(service, "TOTAL_TIME") > 0);
+    }
+
+    private JsonNode metric(String query) throws Exception {
+        ResponseEntity<String> response = restTemplate.getForEntity("/actuator/metrics/" + query, String.class);
+        assertEquals(HttpStatus.OK, response.getStatusCode(), query);
+        return objectMapper.readTree(response.getBody());
+    }
+
+    private static double measurement(JsonNode metric, String statistic) {
+        for (JsonNode measurement : metric.get("measurements")) {
+            if (statistic.equals(measurement.get("statistic").asText())) {
+                return measurement.get("value").asDouble();
+            }
+        }
+        throw new AssertionError("No " + statistic + " in " + metric);
+    }
+}
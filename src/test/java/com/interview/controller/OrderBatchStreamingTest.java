@@ -0,0 +1,87 @@
+package com.interview.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests that large batches are numbered contiguously and streamed back in order,
+ * even though chunks are processed in parallel.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"orders.batch.chunk-size=7", "orders.batch.parallelism=4"})
+@ActiveProfiles("unit")
+class OrderBatchStreamingTest {
+
+    private static final int CUSTOMERS = 5_000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testNdjsonBatchIsOrderedAndContiguous() throws Exception {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.parseMediaType(OrderController.NDJSON_VALUE)));
+        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+
+        String body = restTemplate.postForObject(
+            "http://localhost:" + port + "/api/orders/batch",
+            new HttpEntity<>(customers(), headers),
+            String.class
+        );
+
+        String[] lines = body.split("\n");
+        assertEquals(CUSTOMERS, lines.length);
+        long firstNumber = objectMapper.readTree(lines[0]).get("order_number").asLong();
+        for (int i = 0; i < lines.length; i++) {
+            JsonNode line = objectMapper.readTree(lines[i]);
+            assertEquals("customer-" + i, line.get("customer_name").asText());
+            assertEquals(firstNumber + i, line.get("order_number").asLong());
+            assertEquals("Order #" + (firstNumber + i) + " for customer: customer-" + i,
+                    line.get("summary").asText());
+        }
+    }
+
+    @Test
+    void testPlainBatchKeepsSeparatorFormat() {
+        String body = restTemplate.postForObject(
+            "http://localhost:" + port + "/api/orders/batch",
+            customers(),
+            String.class
+        );
+
+        String[] orders = body.split("; ");
+        assertEquals(CUSTOMERS, orders.length);
+        long firstNumber = Long.parseLong(orders[0].substring("Order #".length(), orders[0].indexOf(' ', 7)));
+        for (int i = 0; i < orders.length; i++) {
+            assertEquals("Order #" + (firstNumber + i) + " for customer: customer-" + i, orders[i]);
+        }
+    }
+
+    private static MultiValueMap<String, String> customers() {
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        for (int i = 0; i < CUSTOMERS; i++) {
+            params.add("customers", "customer-" + i);
+        }
+        return params;
+    }
+}
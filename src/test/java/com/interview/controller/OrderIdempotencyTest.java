@@ -0,0 +1,105 @@
+package com.interview.controller;
+
+import com.interview.config.UserContextFilter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Tests that retried order submissions with an {@code Idempotency-Key} are processed once.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"orders.idempotency.maximum-keys=1000", "orders.idempotency.ttl=PT1H"})
+@ActiveProfiles("unit")
+class OrderIdempotencyTest {
+
+    private static final int RETRIES = 64;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void testRetryReturnsOriginalOrder() {
+        ResponseEntity<String> first = process("Alice", "retry-1", "alice");
+        ResponseEntity<String> retry = process("Alice", "retry-1", "alice");
+
+        assertEquals(HttpStatus.OK, first.getStatusCode());
+        assertEquals(first.getBody(), retry.getBody());
+        assertNotEquals(first.getBody(), process("Alice", null, "alice").getBody());
+    }
+
+    @Test
+    void testRacingDuplicatesAreProcessedOnce() throws Exception {
+        Set<String> orders = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < RETRIES; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    ResponseEntity<String> response = process("Racer", "race-1", "racer");
+                    assertEquals(HttpStatus.OK, response.getStatusCode());
+                    orders.add(response.getBody());
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, orders.size(), orders.toString());
+    }
+
+    @Test
+    void testKeyIsScopedToUserAndRequest() {
+        String alice = process("Shared", "shared-1", "alice").getBody();
+        String bob = process("Shared", "shared-1", "bob").getBody();
+
+        assertNotEquals(alice, bob);
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, process("Someone else", "shared-1", "alice").getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, process("Alice", "k".repeat(256), "alice").getStatusCode());
+    }
+
+    private ResponseEntity<String> process(String customerName, String idempotencyKey, String user) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+        headers.set(UserContextFilter.USER_ID_HEADER, user);
+        if (idempotencyKey != null) {
+            headers.set(OrderController.IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+        }
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        params.add("customerName", customerName);
+        return restTemplate.postForEntity("http://localhost:" + port + "/api/orders/process",
+                new HttpEntity<>(params, headers), String.class);
+    }
+}
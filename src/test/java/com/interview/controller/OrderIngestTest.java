@@ -0,0 +1,73 @@
+package com.interview.controller;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that single orders are numbered uniquely when they are committed in micro-batches.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"orders.ingest.enabled=true", "orders.ingest.window=PT0.002S"})
+@ActiveProfiles("unit")
+class OrderIngestTest {
+
+    private static final int ORDERS = 400;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void testConcurrentOrdersShareBatches() throws Exception {
+        Set<String> orders = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < ORDERS; i++) {
+                String customer = "customer-" + i;
+                futures.add(executor.submit(() -> {
+                    MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+                    params.add("customerName", customer);
+                    String order = restTemplate.postForObject(
+                            "http://localhost:" + port + "/api/orders/process", params, String.class);
+                    assertTrue(order.endsWith("for customer: " + customer), order);
+                    orders.add(order.substring(0, order.indexOf(' ', "Order #".length())));
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(ORDERS, orders.size());
+        assertEquals(ORDERS, meterRegistry.get("orders.ingest.orders").functionCounter().count());
+        double batches = meterRegistry.get("orders.ingest.batches").functionCounter().count();
+        assertTrue(batches < ORDERS, batches + " batches");
+    }
+}
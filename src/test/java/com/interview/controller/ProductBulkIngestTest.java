@@ -0,0 +1,126 @@
+package com.interview.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the bulk product endpoint acknowledges each batch and reports a summary.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "products.ingest.batch-size=2")
+@ActiveProfiles("unit")
+class ProductBulkIngestTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void testBulkNdjsonIsAcknowledgedPerBatch() {
+        String ndjson = """
+                {"product_id":"P-1","product_name":"One","price":1.50,"is_active":true}
+                {"product_id":"P-2","product_name":"Two","is_active":true}
+                {"product_id":"P-3","product_name":"Three","price":3,"is_active":false}
+                """;
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(OrderController.NDJSON_VALUE));
+
+        String response = restTemplate.postForObject(
+            "http://localhost:" + port + "/api/products/bulk",
+            new HttpEntity<>(ndjson, headers),
+            String.class
+        );
+
+        assertEquals("""
+                {"batch":1,"accepted":1,"rejected":1,"errors":[{"record":2,"message":"price is required"}]}
+                {"batch":2,"accepted":1,"rejected":0}
+                {"done":true,"accepted":2,"rejected":1,"batches":2}
+                """, response);
+    }
+
+    @Test
+    void testOutOfRangePriceIsRejectedWithoutAbortingTheStream() {
+        String ndjson = """
+                {"product_id":"P-big-1","product_name":"One","price":1.50,"is_active":true}
+                {"product_id":"P-big-2","product_name":"Two","price":1e20,"is_active":true}
+                {"product_id":"P-big-3","product_name":"Three","price":3,"is_active":false}
+                """;
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(OrderController.NDJSON_VALUE));
+
+        String response = restTemplate.postForObject(
+            "http://localhost:" + port + "/api/products/bulk",
+            new HttpEntity<>(ndjson, headers),
+            String.class
+        );
+
+        assertEquals("""
+                {"batch":1,"accepted":1,"rejected":1,"errors":[{"record":2,"message":"price must not exceed 92233720368547758.07"}]}
+                {"batch":2,"accepted":1,"rejected":0}
+                {"done":true,"accepted":2,"rejected":1,"batches":2}
+                """, response);
+    }
+
+    @Test
+    void testMalformedBodyIsReportedInBand() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        String response = restTemplate.postForObject(
+            "http://localhost:" + port + "/api/products/bulk",
+            new HttpEntity<>("[{\"product_id\":\"P-1\",\"price\":}]", headers),
+            String.class
+        );
+
+        assertTrue(response.startsWith("{\"done\":false,\"error\":"), response);
+    }
+
+    @Test
+    void testMalformedStringPriceIsReportedInBand() {
+        String ndjson = """
+                {"product_id":"P-str-1","product_name":"One","price":"1.50","is_active":true}
+                {"product_id":"P-str-2","product_name":"Two","price":"2.00","is_active":true}
+                {"product_id":"P-str-3","product_name":"Three","price":"abc","is_active":true}
+                """;
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(OrderController.NDJSON_VALUE));
+
+        String response = restTemplate.postForObject(
+            "http://localhost:" + port + "/api/products/bulk",
+            new HttpEntity<>(ndjson, headers),
+            String.class
+        );
+
+        assertTrue(response.startsWith("{\"batch\":1,\"accepted\":2,\"rejected\":0}\n{\"done\":false,\"error\":"),
+                response);
+        assertTrue(response.contains("abc"), response);
+    }
+
+    @Test
+    void testMalformedStringPriceIsABadRequest() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        ResponseEntity<String> response = restTemplate.postForEntity(
+            "http://localhost:" + port + "/api/products",
+            new HttpEntity<>("{\"product_id\":\"P-str-4\",\"price\":\"abc\"}", headers),
+            String.class
+        );
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+}
@@ -0,0 +1,99 @@
+package com.interview.controller;
+
+import com.interview.model.Product;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests storing products and reading them back by id and by price range.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "products.store.delta-limit=2")
+@ActiveProfiles("unit")
+class ProductCatalogTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void testCreateThenGetById() {
+        restTemplate.postForObject(url("/api/products"),
+                new Product("CAT-1", "Catalogue Widget", new BigDecimal("12.50"), true), Product.class);
+
+        Product found = restTemplate.getForObject(url("/api/products/CAT-1"), Product.class);
+        assertEquals("Catalogue Widget", found.getProductName());
+        assertEquals(new BigDecimal("12.50"), found.getPrice());
+
+        assertEquals(HttpStatus.NOT_FOUND,
+                restTemplate.getForEntity(url("/api/products/CAT-missing"), String.class).getStatusCode());
+    }
+
+    @Test
+    void testInvalidProductIsRejected() {
+        ResponseEntity<String> response = restTemplate.postForEntity(url("/api/products"),
+                new Product("CAT-bad", "No Price", null, true), String.class);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    @Test
+    void testPricesBeyondTheIndexAreRejectedOrClamped() {
+        ResponseEntity<String> tooExpensive = restTemplate.postForEntity(url("/api/products"),
+                new Product("CAT-huge", "Too Expensive", new BigDecimal("1e20"), true), String.class);
+        assertEquals(HttpStatus.BAD_REQUEST, tooExpensive.getStatusCode());
+
+        restTemplate.postForObject(url("/api/products"),
+                new Product("CAT-top", "Top Price", new BigDecimal("90000000000000000.00"), true), Product.class);
+        assertEquals(List.of("CAT-top"), ids(url("/api/products?minPrice=1e16&maxPrice=1e20")));
+        assertEquals(List.of(), ids(url("/api/products?minPrice=1e20")));
+        assertEquals(List.of(), ids(url("/api/products?maxPrice=-1e20")));
+    }
+
+    @Test
+    void testBulkIngestThenPriceRange() {
+        String ndjson = """
+                {"product_id":"RANGE-1","product_name":"One","price":1001.00,"is_active":true}
+                {"product_id":"RANGE-2","product_name":"Two","price":1002.00,"is_active":false}
+                {"product_id":"RANGE-3","product_name":"Three","price":1003.00,"is_active":true}
+                {"product_id":"RANGE-4","product_name":"Four","price":1004.00,"is_active":true}
+                {"product_id":"RANGE-5","product_name":"Five","price":1005.00,"is_active":true}
+                """;
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(OrderController.NDJSON_VALUE));
+        restTemplate.postForObject(url("/api/products/bulk"), new HttpEntity<>(ndjson, headers), String.class);
+
+        assertEquals(List.of("RANGE-2", "RANGE-3", "RANGE-4"),
+                ids(url("/api/products?minPrice=1002&maxPrice=1004")));
+        assertEquals(List.of("RANGE-3", "RANGE-4"),
+                ids(url("/api/products?minPrice=1002&maxPrice=1004&active=true")));
+        assertEquals(List.of("RANGE-1", "RANGE-3"),
+                ids(url("/api/products?minPrice=1001&maxPrice=1100&active=true&limit=2")));
+    }
+
+    private List<String> ids(String url) {
+        Product[] products = restTemplate.getForObject(url, Product[].class);
+        return Arrays.stream(products).map(Product::getProductId).toList();
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + port + path;
+    }
+}
@@ -0,0 +1,82 @@
+package com.interview.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.interview.config.BinaryFormatConfig;
+import com.interview.model.Product;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests Product content negotiation between JSON, Smile and CBOR.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("unit")
+class ProductWireFormatTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void testJsonIsTheDefault() {
+        ResponseEntity<String> response = restTemplate.getForEntity(
+            "http://localhost:" + port + "/api/products/sample", String.class);
+
+        assertTrue(MediaType.APPLICATION_JSON.isCompatibleWith(response.getHeaders().getContentType()));
+        assertEquals("{\"product_id\":\"PROD-001\",\"product_name\":\"Sample Widget\",\"price\":29.99,\"is_active\":true}",
+                response.getBody());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {BinaryFormatConfig.SMILE_VALUE, BinaryFormatConfig.CBOR_VALUE})
+    void testBinaryRoundTrip(String mediaType) throws Exception {
+        ObjectMapper mapper = mapperFor(mediaType);
+        Product original = new Product("PROD-789", "Round Trip Widget", new BigDecimal("15.50"), true);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(mediaType));
+        headers.setAccept(List.of(MediaType.parseMediaType(mediaType)));
+
+        ResponseEntity<byte[]> response = restTemplate.exchange(
+            "http://localhost:" + port + "/api/products",
+            HttpMethod.POST,
+            new HttpEntity<>(mapper.writeValueAsBytes(original), headers),
+            byte[].class
+        );
+
+        assertEquals(MediaType.parseMediaType(mediaType), response.getHeaders().getContentType());
+        Product decoded = mapper.readValue(response.getBody(), Product.class);
+        assertEquals(original.getProductId(), decoded.getProductId());
+        assertEquals(original.getProductName(), decoded.getProductName());
+        assertEquals(original.getPrice(), decoded.getPrice());
+        assertEquals(original.getActive(), decoded.getActive());
+
+        byte[] json = new ObjectMapper().writeValueAsBytes(original);
+        assertTrue(response.getBody().length < json.length,
+                mediaType + " payload " + response.getBody().length + " bytes vs JSON " + json.length);
+    }
+
+    private static ObjectMapper mapperFor(String mediaType) {
+        return BinaryFormatConfig.SMILE_VALUE.equals(mediaType) ? new SmileMapper() : new CBORMapper();
+    }
+}
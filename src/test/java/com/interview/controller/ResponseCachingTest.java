@@ -0,0 +1,158 @@
+package com.interview.controller;
+
+import com.interview.config.UserContextFilter;
+import com.interview.model.Product;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests ETags, conditional GETs and cached responses for product and user read endpoints.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("unit")
+class ResponseCachingTest {
+
+    private static final int READS = 200;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void testProductEtagAndNotModified() {
+        create("ETAG-1", "12.50");
+
+        ResponseEntity<String> first = get("/api/products/ETAG-1", null, null);
+        String etag = first.getHeaders().getETag();
+        assertEquals(HttpStatus.OK, first.getStatusCode());
+        assertNotNull(etag);
+        assertTrue(etag.startsWith("\""), etag);
+
+        ResponseEntity<String> cached = get("/api/products/ETAG-1", null, null);
+        assertEquals(first.getBody(), cached.getBody());
+        assertEquals(etag, cached.getHeaders().getETag());
+
+        ResponseEntity<String> conditional = get("/api/products/ETAG-1", etag, null);
+        assertEquals(HttpStatus.NOT_MODIFIED, conditional.getStatusCode());
+        assertNull(conditional.getBody());
+        assertEquals(etag, conditional.getHeaders().getETag());
+    }
+
+    @Test
+    void testProductWriteInvalidatesCachedResponse() {
+        create("ETAG-2", "10.00");
+        String etag = get("/api/products/ETAG-2", null, null).getHeaders().getETag();
+
+        create("ETAG-2", "11.00");
+
+        ResponseEntity<String> changed = get("/api/products/ETAG-2", etag, null);
+        assertEquals(HttpStatus.OK, changed.getStatusCode());
+        assertTrue(changed.getBody().contains("11.00"), changed.getBody());
+        assertNotEquals(etag, changed.getHeaders().getETag());
+    }
+
+    @Test
+    void testProfileIsCachedPerUserAndSession() {
+        ResponseEntity<String> alice = get("/api/user/profile", null, "alice");
+        ResponseEntity<String> bob = get("/api/user/profile", null, "bob");
+        assertTrue(alice.getBody().contains("alice"), alice.getBody());
+        assertTrue(bob.getBody().contains("bob"), bob.getBody());
+        assertTrue(alice.getHeaders().getCacheControl().contains("private"));
+        assertTrue(alice.getHeaders().getVary().contains(UserContextFilter.USER_ID_HEADER));
+
+        ResponseEntity<String> bobWithAliceEtag = get("/api/user/profile", alice.getHeaders().getETag(), "bob");
+        assertEquals(HttpStatus.OK, bobWithAliceEtag.getStatusCode());
+        assertEquals(bob.getBody(), bobWithAliceEtag.getBody());
+        assertEquals(HttpStatus.NOT_MODIFIED,
+                get("/api/user/profile", alice.getHeaders().getETag(), "alice").getStatusCode());
+    }
+
+    @Test
+    void testMissingProductIsNotCached() {
+        assertEquals(HttpStatus.NOT_FOUND, get("/api/products/ETAG-late", null, null).getStatusCode());
+        create("ETAG-late", "5.00");
+        assertEquals(HttpStatus.OK, get("/api/products/ETAG-late", null, null).getStatusCode());
+    }
+
+    // Server CPU per read for the same three cases is measured by ResponseCacheBenchmark
+    @Test
+    void testRepeatedReadsSaveBandwidth() {
+        create("ETAG-hot", "42.00");
+        String etag = get("/api/products/ETAG-hot", null, null).getHeaders().getETag();
+        byte[] rendered = restTemplate.getForObject(url("/api/products/ETAG-hot?render"), byte[].class);
+
+        // The query string bypasses the cache, so every read renders and serializes the product
+        Workload uncached = run("/api/products/ETAG-hot?render", null);
+        Workload cached = run("/api/products/ETAG-hot", null);
+        Workload conditional = run("/api/products/ETAG-hot", etag);
+
+        assertArrayEquals(rendered, restTemplate.getForObject(url("/api/products/ETAG-hot"), byte[].class));
+        assertEquals((long) READS * rendered.length, uncached.bodyBytes());
+        assertEquals(uncached.bodyBytes(), cached.bodyBytes());
+        assertEquals(0, conditional.bodyBytes());
+        assertEquals(READS, conditional.notModified());
+    }
+
+    private Workload run(String path, String etag) {
+        HttpEntity<Void> request = new HttpEntity<>(headers(etag, null));
+        long bodyBytes = 0;
+        int notModified = 0;
+        for (int i = 0; i < READS; i++) {
+            ResponseEntity<byte[]> response = restTemplate.exchange(url(path), HttpMethod.GET, request, byte[].class);
+            if (response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+                notModified++;
+            } else if (response.getBody() != null) {
+                bodyBytes += response.getBody().length;
+            }
+        }
+        return new Workload(bodyBytes, notModified);
+    }
+
+    private record Workload(long bodyBytes, int notModified) {
+    }
+
+    private void create(String id, String price) {
+        restTemplate.postForObject(url("/api/products"),
+                new Product(id, "Cached Widget", new BigDecimal(price), true), Product.class);
+    }
+
+    private ResponseEntity<String> get(String path, String etag, String user) {
+        return restTemplate.exchange(url(path), HttpMethod.GET, new HttpEntity<>(headers(etag, user)), String.class);
+    }
+
+    private static HttpHeaders headers(String etag, String user) {
+        HttpHeaders headers = new HttpHeaders();
+        if (etag != null) {
+            headers.setIfNoneMatch(etag);
+        }
+        if (user != null) {
+            headers.set(UserContextFilter.USER_ID_HEADER, user);
+            headers.set(UserContextFilter.SESSION_ID_HEADER, "session-" + user);
+        }
+        return headers;
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + port + path;
+    }
+}
@@ -0,0 +1,56 @@
+package com.interview.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests bulk import and streaming export of users over HTTP against an embedded H2 database.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.datasource.url=jdbc:h2:mem:user-bulk;DB_CLOSE_DELAY=-1")
+class UsersControllerTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void testImportThenExport() {
+        String ndjson = """
+                {"username":"bulk-1","email":"bulk-1@example.com","fullName":"Bulk One"}
+                {"username":"bulk-2","email":"bulk-2@example.com","fullName":"Bulk Two","isActive":false}
+                {"username":"bulk-3","email":"bulk-3@example.com","fullName":"Bulk Three"}
+                """;
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(OrderController.NDJSON_VALUE));
+
+        UsersController.ImportResult result = restTemplate.postForObject(
+            "http://localhost:" + port + "/api/users/bulk",
+            new HttpEntity<>(ndjson, headers),
+            UsersController.ImportResult.class
+        );
+        assertEquals(3, result.imported());
+
+        String export = restTemplate.getForObject(
+            "http://localhost:" + port + "/api/users/export?active=true", String.class);
+
+        List<String> lines = Arrays.asList(export.split("\n"));
+        assertEquals(2, lines.size());
+        assertTrue(lines.stream().anyMatch(line -> line.contains("\"username\":\"bulk-1\"")));
+        assertTrue(lines.stream().noneMatch(line -> line.contains("bulk-2")));
+    }
+}
@@ -0,0 +1,118 @@
+package com.interview.load;
+
+import com.interview.InterviewApplication;
+import com.interview.catalog.ProductStore;
+import com.interview.model.Product;
+import com.interview.model.User;
+import com.interview.search.UserSearchService;
+import com.interview.service.UserImportService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * End-to-end throughput and latency of the order, user and product endpoints, with the
+ * application running on the {@code loadtest} profile (in-memory H2, seeded users and
+ * products).
+ * <p>
+ * Opt-in: {@code mvn test -Dtest=ApplicationLoadTest -Dloadtest=true}. Tune with
+ * {@code -Dloadtest.concurrency} (default 64), {@code -Dloadtest.requests} per scenario
+ * (default 20000), {@code -Dloadtest.users} and {@code -Dloadtest.products} seeded
+ * (default 10000 each).
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class ApplicationLoadTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 64);
+    private static final int REQUESTS = Integer.getInteger("loadtest.requests", 20_000);
+    private static final int USERS = Integer.getInteger("loadtest.users", 10_000);
+    private static final int PRODUCTS = Integer.getInteger("loadtest.products", 10_000);
+
+    @Test
+    void measureEndpoints() throws Exception {
+        try (ConfigurableApplicationContext app = new SpringApplicationBuilder(InterviewApplication.class)
+                .profiles("loadtest")
+                .run()) {
+            seedUsers(app);
+            seedProducts(app);
+            String base = "http://localhost:" + ((WebServerApplicationContext) app).getWebServer().getPort();
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(30))
+                    .build();
+            LoadGenerator generator = new LoadGenerator(client, CONCURRENCY);
+
+            List<LoadReport> reports = new ArrayList<>();
+            for (Map.Entry<String, IntFunction<HttpRequest>> scenario : scenarios(base).entrySet()) {
+                generator.run("warmup", Math.min(REQUESTS, 2_000), scenario.getValue());
+                LoadReport report = generator.run(scenario.getKey(), REQUESTS, scenario.getValue());
+                System.out.println(report);
+                reports.add(report);
+            }
+
+            for (LoadReport report : reports) {
+                assertEquals(0, report.getErrors(), report.getName());
+                assertEquals(REQUESTS, report.getRequests(), report.getName());
+            }
+        }
+    }
+
+    private static void seedUsers(ConfigurableApplicationContext app) throws Exception {
+        app.getBean(UserImportService.class).importUsers(IntStream.range(0, USERS)
+                .mapToObj(i -> new User("load-" + i, "load-" + i + "@example.com", "Load User " + i))
+                .iterator());
+        app.getBean(UserSearchService.class).scheduleRebuild().get();
+    }
+
+    private static void seedProducts(ConfigurableApplicationContext app) {
+        app.getBean(ProductStore.class).putAll(IntStream.range(0, PRODUCTS)
+                .mapToObj(i -> new Product("PROD-" + i, "Load Product " + i,
+                        BigDecimal.valueOf(i % 10_000, 2), i % 4 != 0))
+                .toList());
+    }
+
+    private static Map<String, IntFunction<HttpRequest>> scenarios(String base) {
+        Map<String, IntFunction<HttpRequest>> scenarios = new LinkedHashMap<>();
+        scenarios.put("orders/process", i -> post(base + "/api/orders/process?customerName=customer-" + i, i));
+        scenarios.put("orders/batch", i -> post(base + "/api/orders/batch?customers=a,b,c,d,e,f,g,h,i,j", i));
+        scenarios.put("user/profile", i -> get(base + "/api/user/profile", i));
+        scenarios.put("user/context", i -> get(base + "/api/user/context", i));
+        scenarios.put("products/{id}", i -> get(base + "/api/products/PROD-" + (i % PRODUCTS), i));
+        scenarios.put("products?price", i -> get(base + "/api/products?minPrice=" + (i % 90)
+                + "&maxPrice=" + (i % 90 + 1) + "&active=true&limit=20", i));
+        scenarios.put("products/sample", i -> get(base + "/api/products/sample", i));
+        scenarios.put("users/search", i -> get(base + "/api/users/search?email=load-" + (i % USERS) + "@", i));
+        return scenarios;
+    }
+
+    private static HttpRequest get(String uri, int index) {
+        return request(uri, index).GET().build();
+    }
+
+    private static HttpRequest post(String uri, int index) {
+        return request(uri, index).POST(HttpRequest.BodyPublishers.noBody()).build();
+    }
+
+    private static HttpRequest.Builder request(String uri, int index) {
+        return HttpRequest.newBuilder(URI.create(uri))
+                .header("X-User-ID", "user-" + index)
+                .header("X-Session-ID", "session-" + index)
+                .timeout(Duration.ofSeconds(60));
+    }
+}
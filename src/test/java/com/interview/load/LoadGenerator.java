@@ -0,0 +1,57 @@
+package com.interview.load;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+/**
+ * Closed-loop HTTP load driver: keeps {@code concurrency} requests outstanding until
+ * {@code totalRequests} have completed, recording the latency of each one.
+ */
+public final class LoadGenerator {
+
+    private final HttpClient client;
+    private final int concurrency;
+
+    public LoadGenerator(HttpClient client, int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("concurrency must be positive: " + concurrency);
+        }
+        this.client = client;
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Sends {@code totalRequests} requests built by {@code requestFactory} (given the
+     * request index) and returns once all of them have completed or failed.
+     */
+    public LoadReport run(String name, int totalRequests, IntFunction<HttpRequest> requestFactory)
+            throws InterruptedException {
+        long[] latencies = new long[totalRequests];
+        AtomicLong errors = new AtomicLong();
+        Semaphore permits = new Semaphore(concurrency);
+        CountDownLatch done = new CountDownLatch(totalRequests);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < totalRequests; i++) {
+            permits.acquire();
+            int index = i;
+            long sent = System.nanoTime();
+            client.sendAsync(requestFactory.apply(i), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        latencies[index] = System.nanoTime() - sent;
+                        if (failure != null || response.statusCode() >= 400) {
+                            errors.incrementAndGet();
+                        }
+                        permits.release();
+                        done.countDown();
+                    });
+        }
+        done.await();
+        return new LoadReport(name, latencies, errors.get(), System.nanoTime() - start);
+    }
+}
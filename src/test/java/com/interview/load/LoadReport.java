@@ -0,0 +1,58 @@
+package com.interview.load;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput and latency summary of one {@link LoadGenerator} run.
+ */
+public final class LoadReport {
+
+    private final String name;
+    private final long[] sortedLatencyNanos;
+    private final long errors;
+    private final long elapsedNanos;
+
+    LoadReport(String name, long[] latencyNanos, long errors, long elapsedNanos) {
+        this.name = name;
+        this.sortedLatencyNanos = latencyNanos.clone();
+        Arrays.sort(this.sortedLatencyNanos);
+        this.errors = errors;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getRequests() {
+        return sortedLatencyNanos.length;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public double getThroughputPerSecond() {
+        return getRequests() / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /**
+     * Returns the latency at {@code percentile} (0-100) in milliseconds.
+     */
+    public double getLatencyMillis(double percentile) {
+        if (sortedLatencyNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sortedLatencyNanos.length) - 1;
+        long nanos = sortedLatencyNanos[Math.max(0, Math.min(index, sortedLatencyNanos.length - 1))];
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-24s requests=%d errors=%d throughput=%.0f/s p50=%.2fms p95=%.2fms p99=%.2fms max=%.2fms",
+                name, getRequests(), errors, getThroughputPerSecond(),
+                getLatencyMillis(50), getLatencyMillis(95), getLatencyMillis(99), getLatencyMillis(100));
+    }
+}
@@ -0,0 +1,84 @@
+package com.interview.load;
+
+import com.interview.InterviewApplication;
+import com.interview.config.RequestExecutionConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares throughput and p99 latency of platform-thread and virtual-thread request
+ * execution against {@code /api/user/profile}.
+ * <p>
+ * Opt-in: {@code mvn test -Dtest=RequestExecutionLoadTest -Dloadtest=true}. Tune with
+ * {@code -Dloadtest.connections} (default 10000) and {@code -Dloadtest.requests}.
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class RequestExecutionLoadTest {
+
+    private static final int CONNECTIONS = Integer.getInteger("loadtest.connections", 10_000);
+    private static final int REQUESTS = Integer.getInteger("loadtest.requests", 100_000);
+
+    @Test
+    void comparePlatformAndVirtualThreads() throws Exception {
+        LoadReport platform = runAgainst(false);
+        System.out.println(platform);
+
+        if (!RequestExecutionConfig.virtualThreadsAvailable()) {
+            System.out.println("Virtual threads need Java 21+; skipping virtual-thread run on Java "
+                    + Runtime.version().feature());
+            return;
+        }
+        LoadReport virtual = runAgainst(true);
+        System.out.println(virtual);
+        System.out.printf("virtual/platform throughput=%.2fx p99=%.2fx%n",
+                virtual.getThroughputPerSecond() / platform.getThroughputPerSecond(),
+                virtual.getLatencyMillis(99) / platform.getLatencyMillis(99));
+    }
+
+    private LoadReport runAgainst(boolean virtualThreads) throws InterruptedException {
+        try (ConfigurableApplicationContext app = new SpringApplicationBuilder(InterviewApplication.class)
+                .profiles("unit")
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "server.tomcat.max-connections=" + (CONNECTIONS * 2),
+                        "server.tomcat.accept-count=" + CONNECTIONS,
+                        "logging.level.com.interview=INFO")
+                .run()) {
+            int port = ((WebServerApplicationContext) app).getWebServer().getPort();
+            URI profile = URI.create("http://localhost:" + port + "/api/user/profile");
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(30))
+                    .build();
+
+            LoadGenerator generator = new LoadGenerator(client, CONNECTIONS);
+            generator.run("warmup", Math.min(REQUESTS, 10_000), i -> profileRequest(profile, i));
+            LoadReport report = generator.run(virtualThreads ? "virtual-threads" : "platform-threads",
+                    REQUESTS, i -> profileRequest(profile, i));
+
+            assertEquals(0, report.getErrors());
+            assertEquals(REQUESTS, report.getRequests());
+            return report;
+        }
+    }
+
+    private static HttpRequest profileRequest(URI uri, int index) {
+        return HttpRequest.newBuilder(uri)
+                .header("X-User-ID", "user-" + index)
+                .header("X-Session-ID", "session-" + index)
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+    }
+}
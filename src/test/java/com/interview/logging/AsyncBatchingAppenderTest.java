@@ -0,0 +1,291 @@
+package com.interview.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.encoder.Encoder;
+import ch.qos.logback.core.encoder.EncoderBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests batching, ordering, the overflow policy and daily rolling of {@link AsyncBatchingAppender}.
+ */
+class AsyncBatchingAppenderTest {
+
+    @TempDir
+    Path directory;
+
+    private final LoggerContext context = new LoggerContext();
+
+    @BeforeEach
+    void setUp() {
+        context.setMDCAdapter(new LogbackMDCAdapter());
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.stop();
+    }
+
+    @Test
+    void testWritesEveryEventThroughFileChannel() throws Exception {
+        Path file = directory.resolve("app.log");
+        AsyncBatchingAppender appender = start(file, patternEncoder(), 256);
+        Logger logger = logger(appender);
+
+        int threads = 4;
+        int perThread = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        logger.warn("{} {}", thread, i);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        appender.stop();
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(threads * perThread, lines.size());
+        int[] next = new int[threads];
+        for (String line : lines) {
+            String[] parts = line.split(" ");
+            int thread = Integer.parseInt(parts[0]);
+            assertEquals(next[thread]++, Integer.parseInt(parts[1]));
+        }
+        AsyncLogMetrics metrics = appender.getMetrics();
+        assertEquals(threads * perThread, metrics.writtenEvents());
+        assertEquals(0, metrics.droppedEvents());
+        assertTrue(metrics.batches() < metrics.writtenEvents(), "events were not batched");
+    }
+
+    @Test
+    void testDropsInfoButWaitsForWarnWhenFull() throws Exception {
+        Path file = directory.resolve("slow.log");
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch writing = new CountDownLatch(1);
+        AsyncBatchingAppender appender = start(file, new BlockingEncoder(writing, release), 4);
+        Logger logger = logger(appender);
+
+        logger.info("first");
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 10; i++) {
+            logger.info("info {}", i);
+        }
+        assertEquals(4, appender.getMetrics().queueDepth());
+        assertEquals(6, appender.getMetrics().droppedEvents());
+
+        CompletableFuture<Void> warning = CompletableFuture.runAsync(() -> logger.warn("warning"));
+        Thread.sleep(200);
+        assertFalse(warning.isDone(), "WARN should wait for space instead of being dropped");
+
+        release.countDown();
+        warning.get(5, TimeUnit.SECONDS);
+        appender.stop();
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(List.of("first", "info 0", "info 1", "info 2", "info 3", "warning"), lines);
+        assertEquals(6, appender.getMetrics().droppedEvents());
+    }
+
+    @Test
+    void testRollsBeforeTheNextBatchWhileBusy() throws Exception {
+        MutableClock clock = new MutableClock(Instant.parse("2026-03-01T23:59:59Z"));
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch writing = new CountDownLatch(1);
+        AsyncBatchingAppender appender = rolling(new BlockingEncoder(writing, release), clock, 0, 1);
+        Logger logger = logger(appender);
+
+        logger.warn("before midnight");
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+        clock.advance(Duration.ofSeconds(2));
+        // Queued while the writer is busy, so with one event per batch it never finds the queue empty
+        for (int i = 0; i < 10; i++) {
+            logger.warn("after midnight {}", i);
+        }
+        release.countDown();
+        appender.stop();
+
+        assertEquals(List.of("before midnight"),
+                Files.readAllLines(directory.resolve("app.2026-03-01.log"), StandardCharsets.UTF_8));
+        List<String> current = Files.readAllLines(directory.resolve("app.log"), StandardCharsets.UTF_8);
+        assertEquals(10, current.size());
+        assertEquals("after midnight 0", current.get(0));
+    }
+
+    @Test
+    void testDeletesArchivesOlderThanMaxHistory() throws Exception {
+        Path expired = Files.writeString(directory.resolve("app.2026-02-20.log"), "expired\n");
+        Path kept = Files.writeString(directory.resolve("app.2026-02-25.log"), "kept\n");
+        Path unrelated = Files.writeString(directory.resolve("app.backup.log"), "unrelated\n");
+        MutableClock clock = new MutableClock(Instant.parse("2026-03-01T12:00:00Z"));
+        AsyncBatchingAppender appender = rolling(patternEncoder(), clock, 5, 512);
+        Logger logger = logger(appender);
+
+        logger.warn("first day");
+        awaitWritten(appender, 1);
+        clock.advance(Duration.ofDays(1));
+        logger.warn("second day");
+        appender.stop();
+
+        assertFalse(Files.exists(expired), "archive older than maxHistory should be deleted");
+        assertTrue(Files.exists(kept));
+        assertTrue(Files.exists(unrelated));
+        assertEquals(List.of("first day"),
+                Files.readAllLines(directory.resolve("app.2026-03-01.log"), StandardCharsets.UTF_8));
+        assertEquals(List.of("second day"),
+                Files.readAllLines(directory.resolve("app.log"), StandardCharsets.UTF_8));
+    }
+
+    private AsyncBatchingAppender start(Path file, Encoder<ILoggingEvent> encoder, int queueSize) {
+        AsyncBatchingAppender appender = appender(file, encoder, queueSize);
+        appender.start();
+        assertTrue(appender.isStarted());
+        return appender;
+    }
+
+    private static void awaitWritten(AsyncBatchingAppender appender, long events) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (appender.getMetrics().writtenEvents() < events) {
+            assertTrue(System.nanoTime() < deadline, "events were not written");
+            Thread.sleep(10);
+        }
+    }
+
+    private AsyncBatchingAppender rolling(Encoder<ILoggingEvent> encoder, Clock clock, int maxHistory, int batchSize) {
+        AsyncBatchingAppender appender = appender(directory.resolve("app.log"), encoder, 64);
+        appender.setBatchSize(batchSize);
+        appender.setFileNamePattern(directory.resolve("app.%d{yyyy-MM-dd}.log").toString());
+        appender.setMaxHistory(maxHistory);
+        appender.setClock(clock);
+        appender.start();
+        assertTrue(appender.isStarted());
+        return appender;
+    }
+
+    private AsyncBatchingAppender appender(Path file, Encoder<ILoggingEvent> encoder, int queueSize) {
+        AsyncBatchingAppender appender = new AsyncBatchingAppender();
+        appender.setContext(context);
+        appender.setName("test");
+        appender.setFile(file.toString());
+        appender.setEncoder(encoder);
+        appender.setQueueSize(queueSize);
+        return appender;
+    }
+
+    private Logger logger(AsyncBatchingAppender appender) {
+        Logger logger = context.getLogger("test");
+        logger.setLevel(Level.INFO);
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+        return logger;
+    }
+
+    private PatternLayoutEncoder patternEncoder() {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%msg%n");
+        encoder.start();
+        return encoder;
+    }
+
+    /**
+     * UTC clock that only moves when a test advances it.
+     */
+    private static class MutableClock extends Clock {
+        private volatile Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
+    /**
+     * Holds the writer thread inside the first encode call until released.
+     */
+    private static class BlockingEncoder extends EncoderBase<ILoggingEvent> {
+        private final CountDownLatch writing;
+        private final CountDownLatch release;
+
+        BlockingEncoder(CountDownLatch writing, CountDownLatch release) {
+            this.writing = writing;
+            this.release = release;
+        }
+
+        @Override
+        public byte[] encode(ILoggingEvent event) {
+            writing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return (event.getFormattedMessage() + "\n").getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public byte[] headerBytes() {
+            return null;
+        }
+
+        @Override
+        public byte[] footerBytes() {
+            return null;
+        }
+    }
+}
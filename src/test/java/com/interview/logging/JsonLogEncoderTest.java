@@ -0,0 +1,130 @@
+package com.interview.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interview.util.RequestContext;
+import com.interview.util.RequestContextHolder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the JSON produced by {@link JsonLogEncoder} by parsing it back with Jackson.
+ */
+class JsonLogEncoderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LoggerContext context = new LoggerContext();
+    private final JsonLogEncoder encoder = new JsonLogEncoder();
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        context.setMDCAdapter(MDC.getMDCAdapter());
+        encoder.setContext(context);
+        encoder.start();
+        logger = context.getLogger("com.interview.service.LoggingService");
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.clear();
+        MDC.clear();
+    }
+
+    @Test
+    void testWritesStandardFieldsAndRequestContext() throws Exception {
+        RequestContextHolder.setContext(new RequestContext("user-7", "session-9"));
+        MDC.put("traceId", "abc");
+        LoggingEvent event = event(Level.INFO, "Operation {} completed", null, "checkout");
+        event.setTimeStamp(Instant.parse("2024-03-05T06:07:00.009Z").toEpochMilli());
+
+        byte[] bytes = encoder.encode(event);
+        assertEquals('\n', bytes[bytes.length - 1]);
+        JsonNode json = objectMapper.readTree(bytes);
+
+        assertEquals("2024-03-05T06:07:00.009Z", json.get("timestamp").asText());
+        assertEquals("INFO", json.get("level").asText());
+        assertEquals("com.interview.service.LoggingService", json.get("logger").asText());
+        assertEquals(Thread.currentThread().getName(), json.get("thread").asText());
+        assertEquals("Operation checkout completed", json.get("message").asText());
+        assertEquals("user-7", json.get("user_id").asText());
+        assertEquals("session-9", json.get("session_id").asText());
+        assertEquals("abc", json.get("mdc").get("traceId").asText());
+        assertFalse(json.get("mdc").has(RequestContextHolder.MDC_USER_ID));
+        assertFalse(json.has("exception"));
+    }
+
+    @Test
+    void testEscapesMessagesAndOmitsAbsentFields() throws Exception {
+        String message = "quote \" backslash \\ tab \t newline \n bell \u0007 accents é 漢字 emoji 😀";
+        JsonNode json = objectMapper.readTree(encoder.encode(event(Level.WARN, message, null)));
+
+        assertEquals(message, json.get("message").asText());
+        assertFalse(json.has("user_id"));
+        assertFalse(json.has("mdc"));
+    }
+
+    @Test
+    void testWritesExceptionWithCauses() throws Exception {
+        RuntimeException error = new RuntimeException("Simulated error",
+                new IllegalStateException("root cause"));
+        JsonNode json = objectMapper.readTree(encoder.encode(event(Level.ERROR, "failed", error)));
+
+        JsonNode exception = json.get("exception");
+        assertEquals("java.lang.RuntimeException", exception.get("class").asText());
+        assertEquals("Simulated error", exception.get("message").asText());
+        String stackTrace = exception.get("stack_trace").asText();
+        assertTrue(stackTrace.startsWith("\tat com.interview.logging.JsonLogEncoderTest"), stackTrace);
+        assertTrue(stackTrace.contains("Caused by: java.lang.IllegalStateException: root cause\n"), stackTrace);
+    }
+
+    @Test
+    void testBufferMatchesByteArrayEncoding() {
+        LoggingEvent event = event(Level.INFO, "same bytes", null);
+
+        byte[] bytes = encoder.encode(event);
+        LogBuffer buffer = encoder.encodeToBuffer(event);
+
+        assertEquals(new String(bytes, StandardCharsets.UTF_8),
+                new String(buffer.array(), 0, buffer.length(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testFormatEncoderSwitchesBetweenPatternAndJson() throws Exception {
+        LogFormatEncoder pattern = new LogFormatEncoder();
+        pattern.setContext(context);
+        pattern.setFormat("pattern");
+        pattern.setPattern("%-5level %logger{0} - %msg%n");
+        pattern.start();
+        LogFormatEncoder json = new LogFormatEncoder();
+        json.setContext(context);
+        json.setFormat("json");
+        json.start();
+
+        LoggingEvent event = event(Level.INFO, "hello", null);
+        assertEquals("INFO  LoggingService - hello\n", new String(pattern.encode(event), StandardCharsets.UTF_8));
+        assertFalse(pattern.isBufferNative());
+        LogBuffer copied = pattern.encodeToBuffer(event);
+        assertEquals("INFO  LoggingService - hello\n",
+                new String(copied.array(), 0, copied.length(), StandardCharsets.UTF_8));
+        assertEquals("hello", objectMapper.readTree(json.encode(event)).get("message").asText());
+        assertTrue(json.isBufferNative());
+    }
+
+    private LoggingEvent event(Level level, String message, Throwable throwable, Object... arguments) {
+        return new LoggingEvent(Logger.class.getName(), logger, level, message, throwable, arguments);
+    }
+}
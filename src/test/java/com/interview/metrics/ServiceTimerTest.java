@@ -0,0 +1,76 @@
+package com.interview.metrics;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests outcome tagging and that recording does not allocate.
+ */
+class ServiceTimerTest {
+
+    @Test
+    void testRecordsPerOutcome() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ServiceTimer timer = ServiceTimer.of(registry, "OrderProcessingService", "processOrder");
+
+        timer.stop(timer.start(), true);
+        timer.stop(timer.start(), true);
+        timer.stop(timer.start(), false);
+
+        assertEquals(2, outcome(registry, "SUCCESS").count());
+        assertEquals(1, outcome(registry, "ERROR").count());
+    }
+
+    @Test
+    void testNoopWithoutRegistry() {
+        ObjectProvider<MeterRegistry> none = null;
+        ServiceTimer timer = ServiceTimer.of(none, "Service", "method");
+        timer.stop(timer.start(), true);
+        assertEquals(ServiceTimer.NOOP, timer);
+    }
+
+    @Test
+    void testRecordingDoesNotAllocate() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        registry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                return DistributionStatisticConfig.builder().percentiles(0.5, 0.95, 0.99).build().merge(config);
+            }
+        });
+        ServiceTimer timer = ServiceTimer.of(registry, "OrderProcessingService", "processOrder");
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+
+        for (int i = 0; i < 200_000; i++) {
+            timer.stop(timer.start(), i % 10 != 0);
+        }
+        long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < 100_000; i++) {
+            timer.stop(timer.start(), i % 10 != 0);
+        }
+        long allocated = threads.getThreadAllocatedBytes(thread) - before;
+
+        // Histogram window rotations allocate a little; per-call allocation would be megabytes
+        assertTrue(allocated < 100_000, "allocated " + allocated + " bytes for 100k recordings");
+    }
+
+    private static Timer outcome(SimpleMeterRegistry registry, String outcome) {
+        return registry.get(ServiceTimer.METRIC)
+                .tag("service", "OrderProcessingService")
+                .tag("method", "processOrder")
+                .tag("outcome", outcome)
+                .timer();
+    }
+}
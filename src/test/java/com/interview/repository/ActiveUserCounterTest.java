@@ -0,0 +1,150 @@
+package com.interview.repository;
+
+import com.interview.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests that the maintained active-user count matches {@code COUNT(*)} against H2.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ActiveUserCounterTest {
+
+    private static final int USERS = 200;
+    private static final int THREADS = 8;
+    private static final int OPERATIONS_PER_THREAD = 300;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ActiveUserCounterImpl activeUserCounter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Long> ids = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAllInBatch();
+        activeUserCounter.reconcile();
+        userRepository.saveAll(IntStream.range(0, USERS)
+                .mapToObj(i -> new User("active-" + i, "active-" + i + "@example.com", "Active " + i))
+                .toList())
+                .forEach(user -> ids.add(user.getId()));
+    }
+
+    @Test
+    void testCountFollowsInsertsFlipsAndDeletes() {
+        assertEquals(USERS, userRepository.countActiveUsers());
+
+        User user = userRepository.findById(ids.get(0)).orElseThrow();
+        user.setIsActive(false);
+        userRepository.save(user);
+        assertEquals(USERS - 1, userRepository.countActiveUsers());
+
+        userRepository.save(user);
+        assertEquals(USERS - 1, userRepository.countActiveUsers());
+
+        userRepository.deleteById(ids.get(0));
+        userRepository.deleteById(ids.get(1));
+        assertEquals(USERS - 2, userRepository.countActiveUsers());
+        assertEquals(0L, activeUserCounter.reconcile());
+    }
+
+    @Test
+    void testUncommittedChangesOnlyVisibleToOwnTransaction() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        transaction.executeWithoutResult(status -> {
+            userRepository.save(new User("pending", "pending@example.com", "Pending"));
+            User user = userRepository.findById(ids.get(0)).orElseThrow();
+            user.setIsActive(false);
+            userRepository.deleteById(ids.get(1));
+
+            assertEquals(USERS - 1, userRepository.countActiveUsers());
+            assertEquals(USERS, activeUserCounter.getCommittedCount());
+            status.setRollbackOnly();
+        });
+
+        assertEquals(USERS, userRepository.countActiveUsers());
+    }
+
+    @Test
+    void testReconcileCorrectsBulkUpdates() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                userRepository.deleteAllByIdInBatch(ids.subList(0, 50)));
+        assertEquals(USERS, userRepository.countActiveUsers());
+
+        assertEquals(-50L, activeUserCounter.reconcile());
+        assertEquals(USERS - 50, userRepository.countActiveUsers());
+    }
+
+    @Test
+    void testConsistentUnderConcurrentUpdates() throws Exception {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                // Each worker owns a slice of the rows; same-row races are left to reconcile()
+                List<Long> owned = new ArrayList<>();
+                for (int i = t; i < ids.size(); i += THREADS) {
+                    owned.add(ids.get(i));
+                }
+                int thread = t;
+                workers.add(executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                        int operation = random.nextInt(10);
+                        if (operation == 0 || owned.isEmpty()) {
+                            User user = userRepository.save(new User("worker-" + thread + "-" + i,
+                                    "worker@example.com", "Worker"));
+                            user.setIsActive(random.nextBoolean());
+                            owned.add(userRepository.save(user).getId());
+                        } else if (operation == 1) {
+                            Long id = owned.remove(random.nextInt(owned.size()));
+                            transaction.executeWithoutResult(status ->
+                                    userRepository.findById(id).ifPresent(userRepository::delete));
+                        } else {
+                            Long id = owned.get(random.nextInt(owned.size()));
+                            transaction.executeWithoutResult(status ->
+                                    userRepository.findById(id).ifPresent(user ->
+                                            user.setIsActive(!user.getIsActive())));
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long actual = userRepository.findAll().stream()
+                .filter(user -> Boolean.TRUE.equals(user.getIsActive()))
+                .count();
+        assertEquals(actual, userRepository.countActiveUsers());
+        assertEquals(0L, activeUserCounter.reconcile());
+    }
+}
@@ -0,0 +1,136 @@
+package com.interview.repository;
+
+import com.interview.model.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the username cache against an in-memory H2 database, counting the SQL statements
+ * Hibernate prepares to prove which lookups reach the database.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "users.cache.maximum-size=2"
+})
+@Import(CachedUserRepository.class)
+class CachedUserRepositoryTest {
+
+    @Autowired
+    private CachedUserRepository cachedUserRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        cachedUserRepository.invalidateAll();
+    }
+
+    @Test
+    void testRepeatLookupsDoNotReachTheDatabase() {
+        cachedUserRepository.save(new User("alice", "alice@example.com", "Alice"));
+        entityManager.flush();
+        statistics.clear();
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(cachedUserRepository.findByUsername("alice").isPresent());
+        }
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertTrue(cachedUserRepository.getStats().hitCount() >= 4);
+    }
+
+    @Test
+    void testMissesAreCachedUntilTheUserIsSaved() {
+        statistics.clear();
+        assertFalse(cachedUserRepository.findByUsername("bob").isPresent());
+        assertFalse(cachedUserRepository.findByUsername("bob").isPresent());
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        cachedUserRepository.save(new User("bob", "bob@example.com", "Bob"));
+
+        assertTrue(cachedUserRepository.findByUsername("bob").isPresent());
+    }
+
+    @Test
+    void testRenameInvalidatesOldUsername() {
+        User carol = cachedUserRepository.save(new User("carol", "carol@example.com", "Carol"));
+        assertTrue(cachedUserRepository.findByUsername("carol").isPresent());
+
+        carol.setUsername("caroline");
+        cachedUserRepository.save(carol);
+
+        assertFalse(cachedUserRepository.findByUsername("carol").isPresent());
+        assertEquals(carol.getId(), cachedUserRepository.findByUsername("caroline").orElseThrow().getId());
+    }
+
+    @Test
+    void testDeleteInvalidatesEntry() {
+        User dave = cachedUserRepository.save(new User("dave", "dave@example.com", "Dave"));
+        assertTrue(cachedUserRepository.findByUsername("dave").isPresent());
+
+        cachedUserRepository.deleteById(dave.getId());
+
+        assertFalse(cachedUserRepository.findByUsername("dave").isPresent());
+    }
+
+    @Test
+    void testSizeBoundEvictsEntries() {
+        for (String name : new String[]{"u1", "u2", "u3", "u4", "u5"}) {
+            cachedUserRepository.findByUsername(name);
+        }
+        cachedUserRepository.findByUsername("u1");
+        cachedUserRepository.cleanUp();
+
+        assertTrue(cachedUserRepository.getEstimatedSize() <= 2);
+        assertTrue(cachedUserRepository.getStats().evictionCount() > 0);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void testMissCachedBeforeCommitIsDroppedAfterCommit() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        User erin = transaction.execute(status -> {
+            User saved = cachedUserRepository.save(new User("erin", "erin@example.com", "Erin"));
+            userRepository.flush();
+            // Another request reads the committed state before this transaction commits
+            assertFalse(CompletableFuture.supplyAsync(() -> cachedUserRepository.findByUsername("erin")).join().isPresent());
+            return saved;
+        });
+
+        try {
+            assertTrue(cachedUserRepository.findByUsername("erin").isPresent());
+        } finally {
+            transaction.executeWithoutResult(status -> cachedUserRepository.deleteById(erin.getId()));
+        }
+    }
+}
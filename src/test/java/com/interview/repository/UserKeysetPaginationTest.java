@@ -0,0 +1,112 @@
+package com.interview.repository;
+
+import com.interview.model.User;
+import com.interview.service.UserExportService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests keyset pagination and streaming queries against users seeded into H2.
+ */
+@DataJpaTest
+@Import(UserExportService.class)
+class UserKeysetPaginationTest {
+
+    private static final int USERS = 1_000;
+    private static final Limit PAGE = Limit.of(64);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserExportService userExportService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void seed() {
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            User user = new User("user-" + i, "user-" + i + (i % 3 == 0 ? "@corp.example" : "@example.com"), "User " + i);
+            // Groups of ten share a timestamp so the id tie-breaker is exercised.
+            user.setCreatedAt(base.plusMinutes(i / 10));
+            user.setIsActive(i % 4 != 0);
+            users.add(user);
+        }
+        userRepository.saveAll(users);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void testActivePagesVisitEveryRowOnceInOrder() {
+        List<User> expected = userRepository.findByActiveStatus(true);
+        expected.sort(Comparator.comparing(User::getCreatedAt).thenComparing(User::getId).reversed());
+
+        List<User> visited = new ArrayList<>();
+        List<User> page = userRepository.findActivePage(true, PAGE);
+        while (!page.isEmpty()) {
+            visited.addAll(page);
+            User last = page.get(page.size() - 1);
+            page = userRepository.findActivePageAfter(true, last.getCreatedAt(), last.getId(), PAGE);
+        }
+
+        assertEquals(ids(expected), ids(visited));
+    }
+
+    @Test
+    void testEmailPagesVisitEveryMatchOnce() {
+        List<User> visited = new ArrayList<>();
+        long lastId = 0;
+        List<User> page;
+        while (!(page = userRepository.findByEmailContainingAndIdGreaterThanOrderByIdAsc("@corp.", lastId, PAGE)).isEmpty()) {
+            visited.addAll(page);
+            lastId = page.get(page.size() - 1).getId();
+        }
+
+        List<User> expected = new ArrayList<>(userRepository.findByEmailContaining("@corp."));
+        expected.sort(Comparator.comparing(User::getId));
+        assertEquals(ids(expected), ids(visited));
+    }
+
+    @Test
+    void testExportKeepsPersistenceContextEmpty() throws Exception {
+        Session session = entityManager.unwrap(Session.class);
+        int[] maxManaged = {0};
+
+        long written = userExportService.export(null, user -> {
+            maxManaged[0] = Math.max(maxManaged[0], session.getStatistics().getEntityCount());
+        });
+
+        assertEquals(USERS, written);
+        assertTrue(maxManaged[0] <= 1, "persistence context held " + maxManaged[0] + " users");
+        assertEquals(0, session.getStatistics().getEntityCount());
+    }
+
+    @Test
+    void testExportFiltersByActiveStatus() throws Exception {
+        long written = userExportService.export(false, user -> assertEquals(false, user.getIsActive()));
+
+        assertEquals(USERS / 4, written);
+    }
+
+    private static List<Long> ids(List<User> users) {
+        return users.stream().map(User::getId).toList();
+    }
+}
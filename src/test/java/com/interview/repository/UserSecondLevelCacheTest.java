@@ -0,0 +1,126 @@
+package com.interview.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.interview.config.SecondLevelCacheConfig;
+import com.interview.model.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.cache.CacheManager;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the second-level entity and query caches for {@link User} against H2, counting
+ * the SQL statements Hibernate prepares. Every repository call runs in its own
+ * transaction, so the first-level cache cannot hide a database round trip.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "users.second-level-cache.entity.maximum-size=500"
+})
+@Import(SecondLevelCacheConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserSecondLevelCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager hibernateCacheManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void testRepeatedFindByIdIssuesNoSql() {
+        Long id = userRepository.save(new User("dave", "dave@example.com", "Dave")).getId();
+        statistics.clear();
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals("dave", userRepository.findById(id).orElseThrow().getUsername());
+        }
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(5, statistics.getSecondLevelCacheHitCount());
+    }
+
+    @Test
+    void testRepeatedFindByActiveStatusIssuesNoSql() {
+        userRepository.save(new User("erin", "erin@example.com", "Erin"));
+        userRepository.save(new User("frank", "frank@example.com", "Frank"));
+        statistics.clear();
+
+        assertEquals(2, userRepository.findByActiveStatus(true).size());
+        long firstQuery = statistics.getPrepareStatementCount();
+        for (int i = 0; i < 5; i++) {
+            assertEquals(2, userRepository.findByActiveStatus(true).size());
+        }
+
+        assertEquals(1, firstQuery);
+        assertEquals(firstQuery, statistics.getPrepareStatementCount());
+        assertEquals(5, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    void testCountActiveUsersIssuesNoSql() {
+        userRepository.save(new User("gina", "gina@example.com", "Gina"));
+        statistics.clear();
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(1, userRepository.countActiveUsers());
+        }
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testUpdatesInvalidateCachedResults() {
+        User hank = userRepository.save(new User("hank", "hank@example.com", "Hank"));
+        assertEquals(1, userRepository.findByActiveStatus(true).size());
+
+        hank.setFullName("Henry");
+        hank.setIsActive(false);
+        userRepository.save(hank);
+        userRepository.save(new User("iris", "iris@example.com", "Iris"));
+        statistics.clear();
+
+        assertEquals("Henry", userRepository.findById(hank.getId()).orElseThrow().getFullName());
+        List<User> active = userRepository.findByActiveStatus(true);
+        assertEquals(List.of("iris"), active.stream().map(User::getUsername).toList());
+        assertTrue(statistics.getPrepareStatementCount() >= 1, "query cache was not invalidated");
+    }
+
+    @Test
+    void testRegionsAreBounded() {
+        assertEquals(Optional.of(500L), maximumSize(SecondLevelCacheConfig.USERS_REGION));
+        assertTrue(maximumSize(SecondLevelCacheConfig.USER_QUERIES_REGION).isPresent());
+    }
+
+    // Reads the bound from the Caffeine cache behind the JCache region, which needs no raw class token
+    private Optional<Long> maximumSize(String region) {
+        Cache<?, ?> cache = hibernateCacheManager.getCache(region).unwrap(Cache.class);
+        return cache.policy().eviction().map(Policy.Eviction::getMaximum);
+    }
+}
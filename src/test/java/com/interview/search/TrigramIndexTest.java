@@ -0,0 +1,46 @@
+package com.interview.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests trigram candidate lookup and posting-list intersection.
+ */
+class TrigramIndexTest {
+
+    @Test
+    void testCandidatesContainEveryMatch() {
+        TrigramIndex index = new TrigramIndex();
+        index.add(1, "alice@example.com");
+        index.add(2, "bob@corp.example");
+        index.add(3, "ALICIA@corp.example");
+        index.add(4, "carol@example.org");
+
+        assertArrayEquals(new long[]{1, 3}, index.candidates("ali"));
+        assertArrayEquals(new long[]{2, 3}, index.candidates("@Corp."));
+        assertArrayEquals(new long[]{1, 2, 3, 4}, index.candidates("example"));
+        assertArrayEquals(new long[0], index.candidates("zzz"));
+    }
+
+    @Test
+    void testShortQueriesCannotUseTheIndex() {
+        TrigramIndex index = new TrigramIndex();
+        index.add(1, "alice@example.com");
+
+        assertNull(index.candidates("al"));
+        assertNull(index.candidates(null));
+    }
+
+    @Test
+    void testOutOfOrderAndRepeatedAddsStaySortedAndUnique() {
+        TrigramIndex index = new TrigramIndex();
+        for (long id : new long[]{50, 10, 30, 10, 40, 20, 50}) {
+            index.add(id, "user" + id);
+        }
+
+        assertArrayEquals(new long[]{10, 20, 30, 40, 50}, index.candidates("use"));
+        assertArrayEquals(new long[]{30}, index.candidates("r30"));
+    }
+}
@@ -0,0 +1,83 @@
+package com.interview.search;
+
+import com.interview.model.User;
+import com.interview.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that the search index is built from H2 and follows committed saves and deletes.
+ */
+@DataJpaTest
+@Import(UserSearchService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserSearchServiceTest {
+
+    @Autowired
+    private UserSearchService userSearchService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        userRepository.deleteAll();
+        userRepository.saveAll(List.of(
+                new User("alice", "alice@example.com", "Alice"),
+                new User("bob", "bob@corp.example", "Bob"),
+                new User("carol", "carol@corp.example", "Carol")));
+        userSearchService.scheduleRebuild().get(30, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testSearchMatchesLikeQuery() {
+        assertTrue(userSearchService.isReady());
+        assertEquals(usernames(userRepository.findByEmailContaining("corp.")),
+                usernames(userSearchService.findByEmailContaining("corp.")));
+        assertEquals(List.of("alice"), usernames(userSearchService.findByUsernameContaining("lic")));
+        assertEquals(List.of("bob", "carol"), usernames(userSearchService.findByEmailContaining("@CORP")));
+    }
+
+    @Test
+    void testIndexFollowsCommittedChanges() {
+        User dave = userRepository.save(new User("dave", "dave@corp.example", "Dave"));
+        assertEquals(List.of("bob", "carol", "dave"), usernames(userSearchService.findByEmailContaining("corp.")));
+
+        dave.setEmail("dave@home.example");
+        userRepository.save(dave);
+        assertEquals(List.of("bob", "carol"), usernames(userSearchService.findByEmailContaining("corp.")));
+        assertEquals(List.of("dave"), usernames(userSearchService.findByEmailContaining("home")));
+
+        userRepository.delete(userRepository.findByUsername("bob").orElseThrow());
+        assertEquals(List.of("carol"), usernames(userSearchService.findByEmailContaining("corp.")));
+    }
+
+    @Test
+    void testShortQueriesFallBackToRepository() {
+        assertEquals(List.of("alice", "bob", "carol"), usernames(userSearchService.findByEmailContaining("@")));
+    }
+
+    @Test
+    void testIndexAndFallbackAgreeOnCase() {
+        // "RP" is shorter than a trigram, so the repository answers it; "RP." goes through the index
+        assertEquals(List.of("bob", "carol"), usernames(userSearchService.findByEmailContaining("RP")));
+        assertEquals(List.of("bob", "carol"), usernames(userSearchService.findByEmailContaining("RP.")));
+        assertEquals(List.of("alice"), usernames(userSearchService.findByUsernameContaining("AL")));
+        assertEquals(List.of("alice"), usernames(userSearchService.findByUsernameContaining("ALI")));
+    }
+
+    private static List<String> usernames(List<User> users) {
+        return users.stream().map(User::getUsername).sorted().toList();
+    }
+}
@@ -0,0 +1,113 @@
+package com.interview.service;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.interview.service.operation.OperationExecutorMode;
+import com.interview.service.operation.OperationLatency;
+import com.interview.util.RequestContext;
+import com.interview.util.RequestContextHolder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that operations run concurrently on the operation executor while keeping the
+ * start/complete/failure log lines and per-operation latency.
+ */
+class LoggingServiceTest {
+
+    private static final Duration LATENCY = Duration.ofMillis(200);
+    private static final int OPERATIONS = 10_000;
+
+    private final Logger serviceLogger = (Logger) LoggerFactory.getLogger(LoggingService.class);
+    private final ListAppender<ILoggingEvent> events = new ListAppender<>();
+    private LoggingService loggingService;
+    private Level previousLevel;
+
+    @BeforeEach
+    void setUp() {
+        loggingService = new LoggingService(OperationExecutorMode.TIMER, LATENCY);
+        previousLevel = serviceLogger.getLevel();
+        serviceLogger.setLevel(Level.DEBUG);
+        events.start();
+        serviceLogger.addAppender(events);
+    }
+
+    @AfterEach
+    void tearDown() {
+        serviceLogger.detachAppender(events);
+        serviceLogger.setLevel(previousLevel);
+        loggingService.shutdown();
+        RequestContextHolder.clear();
+    }
+
+    @Test
+    void testConcurrentOperationsCompleteInAboutOneLatency() throws Exception {
+        // Keep console output out of the timing; the log lines are covered below
+        serviceLogger.setLevel(Level.WARN);
+
+        long started = System.nanoTime();
+        CompletableFuture<?>[] operations = IntStream.range(0, OPERATIONS)
+                .mapToObj(i -> loggingService.performOperationAsync("concurrent"))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(operations).get(10, TimeUnit.SECONDS);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        // A thread per operation would need 10k threads; a pool of 200 would take ~10s
+        assertTrue(elapsedMillis < LATENCY.toMillis() * 3,
+                OPERATIONS + " operations took " + elapsedMillis + "ms");
+        OperationLatency latency = loggingService.getOperationLatencies().get("concurrent");
+        assertEquals(OPERATIONS, latency.count());
+        assertTrue(latency.meanMillis() >= LATENCY.toMillis(), "mean " + latency.meanMillis());
+    }
+
+    @Test
+    void testKeepsStartCompleteAndFailureLogs() {
+        loggingService.performOperation("test-operation");
+        loggingService.performOperation("error");
+
+        List<String> messages = events.list.stream().map(ILoggingEvent::getFormattedMessage).toList();
+        assertEquals(List.of(
+                "Starting operation: test-operation",
+                "Operation test-operation is in progress",
+                "Operation test-operation completed successfully",
+                "Starting operation: error",
+                "Operation error is in progress",
+                "Operation error failed: Simulated error"), messages);
+        ILoggingEvent failure = events.list.get(5);
+        assertEquals(Level.ERROR, failure.getLevel());
+        assertNotNull(failure.getThrowableProxy());
+
+        OperationLatency failed = loggingService.getOperationLatencies().get("error");
+        assertEquals(1, failed.count());
+        assertEquals(1, failed.failures());
+        assertEquals(0, loggingService.getOperationLatencies().get("test-operation").failures());
+    }
+
+    @Test
+    void testCompletionLogsCarryCallerContext() {
+        String caller = Thread.currentThread().getName();
+        try (RequestContextHolder.Binding ignored = RequestContextHolder.bind(new RequestContext("user-5", "session-5"))) {
+            loggingService.performOperationAsync("with-context").join();
+        }
+
+        ILoggingEvent completed = events.list.get(2);
+        assertEquals("Operation with-context completed successfully", completed.getFormattedMessage());
+        assertNotEquals(caller, completed.getThreadName());
+        assertEquals("user-5", completed.getMDCPropertyMap().get(RequestContextHolder.MDC_USER_ID));
+    }
+}
@@ -0,0 +1,140 @@
+package com.interview.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interview.model.Product;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests streaming product ingest, including that heap use stays flat as the payload grows.
+ * The payload size defaults to 128 MB; pass {@code -Dingest.bytes=1073741824} for the 1 GB run.
+ */
+class ProductIngestServiceTest {
+
+    private static final long PAYLOAD_BYTES = Long.getLong("ingest.bytes", 128L * 1024 * 1024);
+    private static final long MAX_HEAP_GROWTH_BYTES = 32L * 1024 * 1024;
+    private static final int SAMPLE_EVERY_BATCHES = 100;
+
+    private final ProductIngestService service = new ProductIngestService(new ObjectMapper(), 500);
+
+    @Test
+    void testNdjsonBatchesAndValidation() throws Exception {
+        String ndjson = """
+                {"product_id":"P-1","product_name":"One","price":1.50,"is_active":true}
+                {"product_id":"P-2","product_name":"","price":2.00,"is_active":true}
+                {"product_id":"P-3","product_name":"Three","price":-1,"is_active":false}
+                {"product_id":"P-4","product_name":"Four","price":4}
+                """;
+        List<String> accepted = new ArrayList<>();
+        List<ProductIngestService.IngestError> rejected = new ArrayList<>();
+
+        ProductIngestService.IngestSummary summary = new ProductIngestService(new ObjectMapper(), 3)
+                .ingest(stream(ndjson), (batch, ok, failed) -> {
+                    ok.forEach(product -> accepted.add(product.getProductId()));
+                    rejected.addAll(failed);
+                });
+
+        assertEquals(List.of("P-1", "P-4"), accepted);
+        assertEquals(List.of(new ProductIngestService.IngestError(2, "product_name is required"),
+                new ProductIngestService.IngestError(3, "price must not be negative")), rejected);
+        assertEquals(new ProductIngestService.IngestSummary(2, 2, 2), summary);
+    }
+
+    @Test
+    void testJsonArrayBody() throws Exception {
+        String array = """
+                [{"product_id":"P-1","product_name":"One","price":1},
+                 {"product_id":"P-2","product_name":"Two","price":2}]
+                """;
+
+        ProductIngestService.IngestSummary summary = service.ingest(stream(array), (batch, ok, failed) -> { });
+
+        assertEquals(new ProductIngestService.IngestSummary(2, 0, 1), summary);
+    }
+
+    @Test
+    void testHeapStaysFlatWhileIngestingLargePayload() throws Exception {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long baseline = usedHeapAfterGc(memory);
+        long[] peak = {baseline};
+        long[] count = {0};
+        int[] samples = {0};
+
+        ProductIngestService.IngestSummary summary = service.ingest(new GeneratedNdjsonStream(PAYLOAD_BYTES),
+                (batch, ok, failed) -> {
+                    count[0] += ok.size();
+                    if (batch % SAMPLE_EVERY_BATCHES == 0) {
+                        peak[0] = Math.max(peak[0], usedHeapAfterGc(memory));
+                        samples[0]++;
+                    }
+                });
+
+        assertEquals(0, summary.rejected());
+        assertEquals(count[0], summary.accepted());
+        assertTrue(summary.accepted() > PAYLOAD_BYTES / 200, "ingested " + summary.accepted());
+        // Growth is judged across the whole run, not from one snapshot
+        assertTrue(samples[0] >= 10, "only " + samples[0] + " heap samples");
+        long growth = peak[0] - baseline;
+        assertTrue(growth < MAX_HEAP_GROWTH_BYTES, "retained heap grew by " + growth + " bytes");
+    }
+
+    private static long usedHeapAfterGc(MemoryMXBean memory) {
+        System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Produces NDJSON product lines on demand until {@code limit} bytes have been served,
+     * so the test payload itself is never held in memory.
+     */
+    private static final class GeneratedNdjsonStream extends InputStream {
+        private final long limit;
+        private long served;
+        private long record;
+        private byte[] line = new byte[0];
+        private int position;
+
+        GeneratedNdjsonStream(long limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) < 0 ? -1 : one[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (position == line.length) {
+                if (served >= limit) {
+                    return -1;
+                }
+                record++;
+                line = ("{\"product_id\":\"PROD-" + record + "\",\"product_name\":\"Generated product " + record
+                        + "\",\"price\":" + (record % 10_000) + "." + (record % 100) + ",\"is_active\":"
+                        + (record % 2 == 0) + "}\n").getBytes(StandardCharsets.UTF_8);
+                position = 0;
+            }
+            int count = Math.min(length, line.length - position);
+            System.arraycopy(line, position, buffer, offset, count);
+            position += count;
+            served += count;
+            return count;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.interview.service;
+
+import com.interview.model.User;
+import com.interview.repository.CachedUserRepository;
+import com.interview.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Iterator;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that bulk imports are written in JDBC batches against H2.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "users.import.transaction-size=400"
+})
+@Import({UserImportService.class, CachedUserRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserImportServiceTest {
+
+    private static final int USERS = 1_000;
+
+    @Autowired
+    private UserImportService userImportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void testImportUsesJdbcBatches() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        long imported = userImportService.importUsers(users(USERS));
+
+        assertEquals(USERS, imported);
+        assertEquals(USERS, statistics.getEntityInsertCount());
+        // 20 insert batches of 50 plus 20 pooled sequence calls, rather than 1000 + 1000.
+        assertTrue(statistics.getPrepareStatementCount() <= 50,
+                "prepared " + statistics.getPrepareStatementCount() + " statements");
+        assertEquals(USERS, userRepository.count());
+        assertEquals(USERS, userRepository.countActiveUsers());
+    }
+
+    private static Iterator<User> users(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new User("import-" + i, "import-" + i + "@example.com", "Imported " + i))
+                .iterator();
+    }
+}
@@ -0,0 +1,172 @@
+package com.interview.service.idempotency;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies that racing duplicates run an operation once and share its result.
+ */
+class IdempotencyStoreTest {
+
+    private static final int THREADS = 32;
+    private static final int KEYS = 200;
+
+    @Test
+    void racingDuplicatesRunOnce() throws Exception {
+        IdempotencyStore<Integer> store = new IdempotencyStore<>(10_000, Duration.ofMinutes(1));
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Set<Integer>> results = new ArrayList<>();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int k = 0; k < KEYS; k++) {
+                results.add(ConcurrentHashMap.newKeySet());
+            }
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int k = 0; k < KEYS; k++) {
+                        results.get(k).add(store.execute("user", "key-" + k, "order", () -> {
+                            Thread.yield();
+                            return executions.incrementAndGet();
+                        }));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(KEYS, executions.get());
+        for (Set<Integer> result : results) {
+            assertEquals(1, result.size());
+        }
+    }
+
+    @Test
+    void duplicatesWaitForTheRunningOperation() throws Exception {
+        IdempotencyStore<String> store = new IdempotencyStore<>(10, Duration.ofMinutes(1));
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> first = executor.submit(() -> store.execute(null, "key", "order", () -> {
+                running.countDown();
+                await(release);
+                return "first";
+            }));
+            assertTrue(running.await(5, TimeUnit.SECONDS));
+            Future<String> duplicate = executor.submit(() -> store.execute(null, "key", "order", () -> "second"));
+
+            release.countDown();
+            assertEquals("first", first.get());
+            assertEquals("first", duplicate.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void failedOperationRunsAgain() {
+        IdempotencyStore<String> store = new IdempotencyStore<>(10, Duration.ofMinutes(1));
+
+        assertThrows(IllegalStateException.class, () -> store.execute("user", "key", "order", () -> {
+            throw new IllegalStateException("down");
+        }));
+
+        assertEquals("retried", store.execute("user", "key", "order", () -> "retried"));
+        assertEquals("retried", store.execute("user", "key", "order", () -> "again"));
+    }
+
+    @Test
+    void keysAreScopedAndBoundToTheirRequest() {
+        IdempotencyStore<String> store = new IdempotencyStore<>(10, Duration.ofMinutes(1));
+        store.execute("alice", "key", "order-1", () -> "alice's");
+
+        assertEquals("bob's", store.execute("bob", "key", "order-1", () -> "bob's"));
+        assertThrows(IdempotencyStore.KeyReusedException.class,
+                () -> store.execute("alice", "key", "order-2", () -> "other"));
+        assertThrows(IdempotencyStore.InvalidKeyException.class,
+                () -> store.execute("alice", "", "order-1", () -> "blank"));
+        assertThrows(IdempotencyStore.InvalidKeyException.class,
+                () -> store.execute("alice", "k".repeat(IdempotencyStore.MAX_KEY_LENGTH + 1), "order-1", () -> "long"));
+    }
+
+    @Test
+    void completedResultsAreBoundedAndExpire() throws Exception {
+        IdempotencyStore<Integer> bounded = new IdempotencyStore<>(100, Duration.ofMinutes(1));
+        for (int i = 0; i < 10_000; i++) {
+            int value = i;
+            bounded.execute("user", "key-" + i, "order", () -> value);
+        }
+        assertTrue(bounded.size() <= 100, "kept " + bounded.size() + " results");
+
+        IdempotencyStore<String> expiring = new IdempotencyStore<>(100, Duration.ofMillis(50));
+        expiring.execute("user", "key", "order", () -> "first");
+        Thread.sleep(100);
+        assertEquals("second", expiring.execute("user", "key", "order", () -> "second"));
+    }
+
+    @Test
+    void operationOutlastingTheTtlIsNotRunAgain() throws Exception {
+        IdempotencyStore<String> store = new IdempotencyStore<>(10, Duration.ofMillis(50));
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> first = executor.submit(() -> store.execute("user", "slow", "order", () -> {
+                executions.incrementAndGet();
+                running.countDown();
+                await(release);
+                return "first";
+            }));
+            assertTrue(running.await(5, TimeUnit.SECONDS));
+            Thread.sleep(200);
+            Future<String> retry = executor.submit(() -> store.execute("user", "slow", "order", () -> {
+                executions.incrementAndGet();
+                return "second";
+            }));
+
+            release.countDown();
+            assertEquals("first", first.get());
+            assertEquals("first", retry.get());
+            assertEquals(1, executions.get());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // The TTL starts once the operation completes
+        Thread.sleep(100);
+        assertEquals("third", store.execute("user", "slow", "order", () -> "third"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.interview.service.ingest;
+
+import com.interview.model.OrderResult;
+import com.interview.service.sequence.AtomicSequencer;
+import com.interview.service.sequence.Sequencer;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies that queued orders are numbered uniquely and committed in batches.
+ */
+class OrderIngestQueueTest {
+
+    private static final int THREADS = 16;
+    private static final int PER_THREAD = 2_000;
+
+    private final Sequencer sequencer = new AtomicSequencer();
+    private final List<List<OrderResult>> commits = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    void concurrentOrdersAreNumberedOnceAndCommittedInBatches() throws Exception {
+        Set<Long> numbers = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try (OrderIngestQueue queue = queue(64, 64, Duration.ofMillis(1))) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < PER_THREAD; i++) {
+                        String customer = "customer-" + thread + "-" + i;
+                        OrderResult result = queue.process(customer);
+                        assertEquals(customer, result.getCustomerName());
+                        assertEquals("#" + result.getOrderNumber() + " " + customer, result.getSummary());
+                        assertTrue(numbers.add(result.getOrderNumber()));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+
+            assertEquals(THREADS * PER_THREAD, queue.getCommittedOrders());
+            assertEquals(commits.size(), queue.getBatches());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(THREADS * PER_THREAD, numbers.size());
+        assertEquals(THREADS * PER_THREAD, sequencer.current());
+        assertTrue(commits.size() < THREADS * PER_THREAD, commits.size() + " commits");
+        for (List<OrderResult> batch : commits) {
+            assertTrue(batch.size() <= 64);
+            for (int i = 1; i < batch.size(); i++) {
+                assertEquals(batch.get(0).getOrderNumber() + i, batch.get(i).getOrderNumber());
+            }
+        }
+    }
+
+    @Test
+    void windowCollectsOrdersIntoOneCommit() {
+        List<CompletableFuture<OrderResult>> results = new ArrayList<>();
+        try (OrderIngestQueue queue = queue(64, 8, Duration.ofSeconds(5))) {
+            for (int i = 0; i < 8; i++) {
+                results.add(queue.submit("customer-" + i));
+            }
+            for (int i = 0; i < 8; i++) {
+                assertEquals(i + 1, results.get(i).join().getOrderNumber());
+            }
+        }
+
+        assertEquals(1, commits.size());
+        assertEquals(8, commits.get(0).size());
+    }
+
+    @Test
+    void failedCommitFailsEveryOrderInTheBatch() {
+        OrderIngestQueue.GroupCommit failing = orders -> {
+            throw new IOException("disk full");
+        };
+        try (OrderIngestQueue queue = new OrderIngestQueue(sequencer::reserve, (n, c) -> c, failing,
+                64, 4, Duration.ofSeconds(5))) {
+            List<CompletableFuture<OrderResult>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(queue.submit("customer-" + i));
+            }
+            for (CompletableFuture<OrderResult> result : results) {
+                Throwable failure = assertThrows(Exception.class, result::join).getCause();
+                assertInstanceOf(IOException.class, failure);
+            }
+            assertThrows(IllegalStateException.class, () -> queue.process("customer"));
+        }
+    }
+
+    @Test
+    void closeCommitsQueuedOrdersAndRejectsNewOnes() {
+        OrderIngestQueue queue = queue(64, 64, Duration.ofSeconds(5));
+        CompletableFuture<OrderResult> queued = queue.submit("early");
+
+        queue.close();
+
+        assertEquals("early", queued.join().getCustomerName());
+        assertThrows(RejectedExecutionException.class, () -> queue.submit("late"));
+    }
+
+    private OrderIngestQueue queue(int capacity, int maxBatchSize, Duration window) {
+        return new OrderIngestQueue(sequencer::reserve, (number, customer) -> "#" + number + " " + customer,
+                commits::add, capacity, maxBatchSize, window);
+    }
+}
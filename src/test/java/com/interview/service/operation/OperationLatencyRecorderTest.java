@@ -0,0 +1,38 @@
+package com.interview.service.operation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests per-name aggregation and the bound on distinct names.
+ */
+class OperationLatencyRecorderTest {
+
+    @Test
+    void testAggregatesPerNameAndFoldsOverflow() {
+        OperationLatencyRecorder recorder = new OperationLatencyRecorder(2);
+        recorder.record("a", TimeUnit.MILLISECONDS.toNanos(10), false);
+        recorder.record("a", TimeUnit.MILLISECONDS.toNanos(30), true);
+        recorder.record("b", TimeUnit.MILLISECONDS.toNanos(5), false);
+        recorder.record("c", TimeUnit.MILLISECONDS.toNanos(7), false);
+        recorder.record("d", TimeUnit.MILLISECONDS.toNanos(9), false);
+
+        Map<String, OperationLatency> snapshot = recorder.snapshot();
+        assertEquals(new OperationLatency(2, 1, 20.0, 30.0), snapshot.get("a"));
+        assertEquals(new OperationLatency(1, 0, 5.0, 5.0), snapshot.get("b"));
+        assertEquals(new OperationLatency(2, 0, 8.0, 9.0), snapshot.get(OperationLatencyRecorder.OTHER));
+        assertEquals(3, snapshot.size());
+    }
+
+    @Test
+    void testVirtualThreadModeFallsBackBeforeJava21() {
+        try (OperationExecutor executor = OperationExecutorMode.VIRTUAL_THREADS.create()) {
+            assertEquals(Runtime.version().feature() >= 21,
+                    executor instanceof VirtualThreadOperationExecutor);
+        }
+    }
+}
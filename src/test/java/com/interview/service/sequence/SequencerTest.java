@@ -0,0 +1,79 @@
+package com.interview.service.sequence;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies that sequencers never hand out the same value twice under contention.
+ */
+class SequencerTest {
+
+    private static final int THREADS = 16;
+    private static final int PER_THREAD = 10_000;
+
+    @ParameterizedTest
+    @EnumSource(SequencerMode.class)
+    void concurrentNextIsUnique(SequencerMode mode) throws Exception {
+        Sequencer sequencer = mode.create(64);
+        Set<Long> seen = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < PER_THREAD; i++) {
+                        assertTrue(seen.add(sequencer.next()));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(THREADS * PER_THREAD, seen.size());
+        assertEquals(THREADS * PER_THREAD, sequencer.current());
+    }
+
+    @ParameterizedTest
+    @EnumSource(SequencerMode.class)
+    void reservedBlocksAreContiguousAndDisjoint(SequencerMode mode) {
+        Sequencer sequencer = mode.create(8);
+        long single = sequencer.next();
+        SequenceBlock block = sequencer.reserve(5);
+
+        assertEquals(5, block.getSize());
+        assertEquals(block.getFirst() + 4, block.get(4));
+        assertTrue(single < block.getFirst() || single > block.get(4));
+    }
+
+    @ParameterizedTest
+    @EnumSource(SequencerMode.class)
+    void resetStartsFromOne(SequencerMode mode) {
+        Sequencer sequencer = mode.create(8);
+        sequencer.next();
+        sequencer.next();
+        sequencer.reset();
+
+        assertEquals(0, sequencer.current());
+        assertEquals(1, sequencer.next());
+    }
+}
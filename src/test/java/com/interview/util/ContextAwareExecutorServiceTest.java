@@ -0,0 +1,85 @@
+package com.interview.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests that request context follows tasks onto worker threads and does not stay behind.
+ */
+class ContextAwareExecutorServiceTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ContextAwareExecutorService(Executors.newSingleThreadExecutor());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        RequestContextHolder.clear();
+    }
+
+    @Test
+    void testContextIsVisibleOnWorkerAndClearedAfterwards() throws Exception {
+        RequestContext alice = new RequestContext("alice", "sess-alice");
+
+        RequestContext seen = RequestContextHolder.callWithContext(alice,
+                () -> executor.submit(RequestContextHolder::getContext).get());
+
+        assertSame(alice, seen);
+        assertNull(executor.submit(RequestContextHolder::getContext).get());
+    }
+
+    @Test
+    void testContextIsCapturedAtSubmitTime() throws Exception {
+        RequestContext alice = new RequestContext("alice", "sess-alice");
+        RequestContext bob = new RequestContext("bob", "sess-bob");
+
+        var forAlice = RequestContextHolder.callWithContext(alice,
+                () -> executor.submit(() -> RequestContextHolder.getContext().getUserId()));
+        var forBob = RequestContextHolder.callWithContext(bob,
+                () -> executor.submit(() -> RequestContextHolder.getContext().getUserId()));
+
+        assertEquals("alice", forAlice.get());
+        assertEquals("bob", forBob.get());
+    }
+
+    @Test
+    void testCompletableFutureChainKeepsContext() throws Exception {
+        RequestContext alice = new RequestContext("alice", "sess-alice");
+
+        String result = RequestContextHolder.callWithContext(alice, () ->
+                CompletableFuture.supplyAsync(() -> RequestContextHolder.getContext().getUserId(), executor)
+                        .thenApplyAsync(user -> user + "/" + RequestContextHolder.getContext().getSessionId(), executor)
+                        .get());
+
+        assertEquals("alice/sess-alice", result);
+    }
+
+    @Test
+    void testDecoratorRestoresCallerContextWhenRunInline() {
+        RequestContext caller = new RequestContext("caller", "s1");
+        RequestContext submitter = new RequestContext("submitter", "s2");
+        Runnable task;
+        try (RequestContextHolder.Binding ignored = RequestContextHolder.bind(submitter)) {
+            task = new RequestContextTaskDecorator().decorate(
+                    () -> assertSame(submitter, RequestContextHolder.getContext()));
+        }
+
+        RequestContextHolder.runWithContext(caller, () -> {
+            task.run();
+            assertSame(caller, RequestContextHolder.getContext());
+        });
+    }
+}
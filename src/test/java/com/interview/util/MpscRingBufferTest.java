@@ -0,0 +1,76 @@
+package com.interview.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests capacity handling and multi-producer ordering of {@link MpscRingBuffer}.
+ */
+class MpscRingBufferTest {
+
+    @Test
+    void testOfferFailsWhenFullAndSucceedsAfterDrain() {
+        MpscRingBuffer<Integer> ring = new MpscRingBuffer<>(3);
+        assertEquals(4, ring.capacity());
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(ring.offer(i));
+        }
+        assertFalse(ring.offer(4));
+        assertEquals(4, ring.size());
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(2, ring.drain(drained::add, 2));
+        assertTrue(ring.offer(4));
+        assertEquals(3, ring.drain(drained::add, 10));
+        assertEquals(List.of(0, 1, 2, 3, 4), drained);
+        assertTrue(ring.isEmpty());
+    }
+
+    @Test
+    void testConcurrentProducersKeepPerProducerOrder() throws Exception {
+        int producers = 4;
+        int perProducer = 100_000;
+        MpscRingBuffer<long[]> ring = new MpscRingBuffer<>(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                long producer = p;
+                futures.add(executor.submit(() -> {
+                    for (long i = 0; i < perProducer; i++) {
+                        while (!ring.offer(new long[]{producer, i})) {
+                            Thread.onSpinWait();
+                        }
+                    }
+                }));
+            }
+
+            long[] next = new long[producers];
+            int received = 0;
+            while (received < producers * perProducer) {
+                received += ring.drain(element -> {
+                    assertEquals(next[(int) element[0]], element[1]);
+                    next[(int) element[0]]++;
+                }, 256);
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            for (long count : next) {
+                assertEquals(perProducer, count);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
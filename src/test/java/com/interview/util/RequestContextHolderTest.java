@@ -0,0 +1,73 @@
+package com.interview.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests that scoped bindings restore whatever context was there before.
+ */
+class RequestContextHolderTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.clear();
+    }
+
+    @Test
+    void testBindingIsDroppedWhenScopeEnds() {
+        RequestContext alice = new RequestContext("alice", "sess-alice");
+
+        try (RequestContextHolder.Binding ignored = RequestContextHolder.bind(alice)) {
+            assertSame(alice, RequestContextHolder.getContext());
+        }
+
+        assertNull(RequestContextHolder.getContext());
+    }
+
+    @Test
+    void testNestedBindingsRestoreOuterContext() throws Exception {
+        RequestContext outer = new RequestContext("outer", "s1");
+        RequestContext inner = new RequestContext("inner", "s2");
+
+        RequestContextHolder.runWithContext(outer, () -> {
+            RequestContextHolder.runWithContext(inner,
+                    () -> assertSame(inner, RequestContextHolder.getContext()));
+            RequestContextHolder.runWithContext(null,
+                    () -> assertNull(RequestContextHolder.getContext()));
+            assertSame(outer, RequestContextHolder.getContext());
+        });
+
+        assertEquals("inner", RequestContextHolder.callWithContext(inner,
+                () -> RequestContextHolder.getContext().getUserId()));
+        assertNull(RequestContextHolder.getContext());
+    }
+
+    @Test
+    void testBindingIsDroppedWhenTaskThrows() {
+        try {
+            RequestContextHolder.runWithContext(new RequestContext("bob", "s"), () -> {
+                throw new IllegalStateException("boom");
+            });
+        } catch (IllegalStateException expected) {
+            // fall through
+        }
+
+        assertNull(RequestContextHolder.getContext());
+    }
+
+    @Test
+    void testContextIsMirroredIntoMdc() {
+        try (RequestContextHolder.Binding ignored = RequestContextHolder.bind(new RequestContext("carol", "s3"))) {
+            assertEquals("carol", MDC.get(RequestContextHolder.MDC_USER_ID));
+            assertEquals("s3", MDC.get(RequestContextHolder.MDC_SESSION_ID));
+        }
+
+        assertNull(MDC.get(RequestContextHolder.MDC_USER_ID));
+        assertNull(MDC.get(RequestContextHolder.MDC_SESSION_ID));
+    }
+}